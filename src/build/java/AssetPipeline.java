@@ -0,0 +1,173 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Build step run by Maven (exec plugin, process-classes). Reads the static sources, minifies
+ * css/js into assets/ under a content-hashed name with a .gz sibling, and writes the HTML pages
+ * rewritten to reference the hashed names, precompressed as well. Sources are never modified.
+ *
+ * Usage: java AssetPipeline.java <source-static-dir> <output-static-dir>
+ */
+public class AssetPipeline {
+
+    private static final Pattern CSS_STRING_OR_COMMENT =
+            Pattern.compile("(\"(?:[^\"\\\\]|\\\\.)*\"|'(?:[^'\\\\]|\\\\.)*')|/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern CSS_PUNCTUATION = Pattern.compile("\\s*([{};,])\\s*");
+    private static final Pattern ASSET_REF = Pattern.compile("(href|src)=\"/((?:css|js)/[\\w.-]+\\.(?:css|js))\"");
+
+    public static void main(String[] args) throws Exception {
+        Path source = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+        Path assets = output.resolve("assets");
+        if (Files.isDirectory(assets)) {
+            for (Path stale : list(assets)) {
+                Files.delete(stale);
+            }
+        }
+        Files.createDirectories(assets);
+
+        Map<String, String> hashedNames = new LinkedHashMap<>();
+        for (String dir : List.of("css", "js")) {
+            Path sourceDir = source.resolve(dir);
+            if (!Files.isDirectory(sourceDir)) {
+                continue;
+            }
+            for (Path file : list(sourceDir)) {
+                String name = file.getFileName().toString();
+                String text = Files.readString(file, StandardCharsets.UTF_8);
+                String minified = name.endsWith(".css") ? minifyCss(text) : minifyJs(text);
+                byte[] bytes = minified.getBytes(StandardCharsets.UTF_8);
+                int dot = name.lastIndexOf('.');
+                String hashed = name.substring(0, dot) + "." + hash(bytes) + name.substring(dot);
+                Files.write(assets.resolve(hashed), bytes);
+                gzip(assets.resolve(hashed + ".gz"), bytes);
+                hashedNames.put(dir + "/" + name, "assets/" + hashed);
+                System.out.printf("[assets] %s -> %s (%d -> %d bytes)%n", dir + "/" + name, hashed, text.length(), bytes.length);
+            }
+        }
+
+        for (Path page : list(source)) {
+            String name = page.getFileName().toString();
+            if (!name.endsWith(".html")) {
+                continue;
+            }
+            Matcher refs = ASSET_REF.matcher(Files.readString(page, StandardCharsets.UTF_8));
+            StringBuilder html = new StringBuilder();
+            while (refs.find()) {
+                String target = hashedNames.getOrDefault(refs.group(2), refs.group(2));
+                refs.appendReplacement(html, Matcher.quoteReplacement(refs.group(1) + "=\"/" + target + "\""));
+            }
+            refs.appendTail(html);
+            byte[] bytes = html.toString().getBytes(StandardCharsets.UTF_8);
+            Files.write(output.resolve(name), bytes);
+            gzip(output.resolve(name + ".gz"), bytes);
+        }
+    }
+
+    // String literals are copied verbatim (content values, quoted font names); comments are
+    // dropped and only the text between literals is compacted.
+    static String minifyCss(String css) {
+        StringBuilder result = new StringBuilder();
+        StringBuilder text = new StringBuilder();
+        Matcher matcher = CSS_STRING_OR_COMMENT.matcher(css);
+        int last = 0;
+        while (matcher.find()) {
+            text.append(css, last, matcher.start());
+            if (matcher.group(1) != null) {
+                result.append(compactCss(text.toString())).append(matcher.group(1));
+                text.setLength(0);
+            }
+            last = matcher.end();
+        }
+        text.append(css, last, css.length());
+        return result.append(compactCss(text.toString())).toString().trim();
+    }
+
+    private static String compactCss(String text) {
+        String result = WHITESPACE.matcher(text).replaceAll(" ");
+        result = CSS_PUNCTUATION.matcher(result).replaceAll("$1");
+        return result.replace(";}", "}");
+    }
+
+    // Line-preserving on purpose: only indentation, blank lines and whole-line comments go,
+    // so automatic semicolon insertion behaves exactly as before. Text inside a multi-line
+    // template literal is content, so those lines keep their whitespace and are never dropped.
+    static String minifyJs(String js) {
+        StringBuilder out = new StringBuilder(js.length());
+        boolean inTemplate = false;
+        for (String line : js.split("\\R")) {
+            boolean startsInTemplate = inTemplate;
+            inTemplate = endsInTemplate(line, startsInTemplate);
+            String kept = startsInTemplate ? line : line.stripLeading();
+            if (!inTemplate) {
+                kept = kept.stripTrailing();
+            }
+            if (!startsInTemplate && (kept.isEmpty() || kept.startsWith("//"))) {
+                continue;
+            }
+            out.append(kept).append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Scans one line for backticks outside quotes and line comments and reports whether
+     * the line ends inside a template literal. Backticks nested in ${...} are not tracked.
+     */
+    private static boolean endsInTemplate(String line, boolean inTemplate) {
+        char quote = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inTemplate) {
+                inTemplate = c != '`';
+            } else if (quote != 0) {
+                quote = c == quote ? 0 : quote;
+            } else if (c == '`') {
+                inTemplate = true;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '/' && i + 1 < line.length() && line.charAt(i + 1) == '/') {
+                return false;
+            }
+        }
+        return inTemplate;
+    }
+
+    private static List<Path> list(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return new ArrayList<>(files.filter(Files::isRegularFile).sorted().toList());
+        }
+    }
+
+    private static String hash(byte[] bytes) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+        return HexFormat.of().formatHex(digest, 0, 5);
+    }
+
+    private static void gzip(Path target, byte[] bytes) throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(target)) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(bytes);
+        }
+    }
+}
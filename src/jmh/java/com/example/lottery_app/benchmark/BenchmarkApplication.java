@@ -0,0 +1,28 @@
+package com.example.lottery_app.benchmark;
+
+import com.example.lottery_app.LotteryAppApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application without the web server inside a benchmark fork. Properties are
+ * passed as command-line arguments so they override profile-specific property files.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String[] profiles, String... properties) {
+        String[] args = new String[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            args[i] = "--" + properties[i];
+        }
+        return new SpringApplicationBuilder(LotteryAppApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(profiles)
+                .properties("spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run(args);
+    }
+}
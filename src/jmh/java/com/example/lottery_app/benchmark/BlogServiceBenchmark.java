@@ -0,0 +1,65 @@
+package com.example.lottery_app.benchmark;
+
+import com.example.lottery_app.entity.BlogPost;
+import com.example.lottery_app.service.BlogService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search and the recent-posts feed over {@code posts} generated posts (see the datagen profile).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BlogServiceBenchmark {
+
+    private static final String[] QUERIES = {"性能优化", "Spring Boot", "缓存", "并发编程 实践", "JVM 调优笔记", "不存在的关键词"};
+
+    @Param({"1000", "10000", "100000"})
+    public int posts;
+
+    private ConfigurableApplicationContext context;
+    private BlogService blogService;
+    private int query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(new String[]{"datagen"},
+                "datagen.posts=" + posts, "datagen.apps=0", "datagen.participants=0");
+        blogService = context.getBean(BlogService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BlogPost> searchPosts() {
+        query = (query + 1) % QUERIES.length;
+        return blogService.searchPosts(QUERIES[query]);
+    }
+
+    @Benchmark
+    public List<BlogPost> getRecentPosts() {
+        return blogService.getRecentPosts(10);
+    }
+}
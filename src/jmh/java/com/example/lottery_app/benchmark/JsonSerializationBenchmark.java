@@ -0,0 +1,75 @@
+package com.example.lottery_app.benchmark;
+
+import com.example.lottery_app.entity.App;
+import com.example.lottery_app.entity.BlogPost;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes lists of posts and apps the way the JSON endpoints do, without a running context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<BlogPost> posts;
+    private List<App> apps;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime now = LocalDateTime.now();
+        posts = new ArrayList<>(size);
+        apps = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BlogPost post = new BlogPost("Spring Boot 开发实践心得 #" + i, "分享在Spring Boot开发过程中的一些实用技巧和最佳实践。",
+                    "# Spring Boot 开发实践心得\n\n" + "合理的设计能够显著降低系统的复杂度。".repeat(20), "技术分享", "博主");
+            post.setId((long) i);
+            post.setTags("Spring Boot,Java,后端开发");
+            post.setPublished(true);
+            post.setCreatedAt(now.minusMinutes(i));
+            posts.add(post);
+
+            App app = new App("在线工具集合 " + i, "集合各种实用的在线工具，包括文本处理、格式转换等功能。", "#", "工具类");
+            app.setId((long) i);
+            app.setTechnology("Vue.js");
+            app.setGithubUrl("#");
+            apps.add(app);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePosts() throws Exception {
+        return objectMapper.writeValueAsBytes(posts);
+    }
+
+    @Benchmark
+    public byte[] serializeApps() throws Exception {
+        return objectMapper.writeValueAsBytes(apps);
+    }
+}
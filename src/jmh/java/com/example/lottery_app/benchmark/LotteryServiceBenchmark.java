@@ -0,0 +1,144 @@
+package com.example.lottery_app.benchmark;
+
+import com.example.lottery_app.entity.LotteryResult;
+import com.example.lottery_app.entity.Participant;
+import com.example.lottery_app.service.LotteryService;
+import com.example.lottery_app.service.ParticipantImportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration and draw against a pool that holds {@code participants} registrations.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LotteryServiceBenchmark {
+
+    private static final String POOL = "bench";
+
+    // Registrations per measured batch; the round grows by at most this much past its parameter
+    private static final int REGISTRATION_BATCH = 100;
+
+    /**
+     * Registrations pile up in the round, so every iteration is one batch of
+     * {@value LotteryServiceBenchmark#REGISTRATION_BATCH} registrations into a fresh round of {@code participants};
+     * the reported time is per batch.
+     */
+    @State(Scope.Benchmark)
+    public static class Registration {
+
+        @Param({"1000", "100000"})
+        public int participants;
+
+        ConfigurableApplicationContext context;
+        LotteryService lotteryService;
+        ParticipantImportService participantImportService;
+        long next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkApplication.start(new String[0]);
+            lotteryService = context.getBean(LotteryService.class);
+            participantImportService = context.getBean(ParticipantImportService.class);
+        }
+
+        @Setup(Level.Iteration)
+        public void refillRound() {
+            if (next > 0) {
+                lotteryService.drawWinner(POOL);
+            }
+            participantImportService.importParticipants(POOL, participants(0, participants));
+            next = participants;
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    /**
+     * Every measured draw closes the round, so each iteration refills a fresh one first.
+     */
+    @State(Scope.Benchmark)
+    public static class Draw {
+
+        @Param({"1000", "100000"})
+        public int participants;
+
+        ConfigurableApplicationContext context;
+        LotteryService lotteryService;
+        ParticipantImportService participantImportService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkApplication.start(new String[0]);
+            lotteryService = context.getBean(LotteryService.class);
+            participantImportService = context.getBean(ParticipantImportService.class);
+        }
+
+        @Setup(Level.Iteration)
+        public void fillRound() {
+            participantImportService.importParticipants(POOL, participants(0, participants));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, batchSize = REGISTRATION_BATCH)
+    @Measurement(iterations = 20, batchSize = REGISTRATION_BATCH)
+    public Participant addParticipant(Registration state) {
+        return state.lotteryService.addParticipant(POOL, new Participant("participant-" + state.next++));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public LotteryResult drawWinner(Draw state) {
+        return state.lotteryService.drawWinner(POOL);
+    }
+
+    private static Iterator<Participant> participants(long first, long count) {
+        return new Iterator<>() {
+            private long next = first;
+
+            @Override
+            public boolean hasNext() {
+                return next < first + count;
+            }
+
+            @Override
+            public Participant next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new Participant("participant-" + next++);
+            }
+        };
+    }
+}
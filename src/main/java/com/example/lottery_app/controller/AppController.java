@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -36,20 +37,29 @@ public class AppController {
     // API endpoints for AJAX requests
     @GetMapping("/api/apps")
     @ResponseBody
-    public List<App> getAllApps() {
+    public List<App> getAllApps(WebRequest request) {
+        if (ConditionalGet.notModified(request, appService.getContentVersion())) {
+            return null;
+        }
         return appService.getAllActiveApps();
     }
 
     @GetMapping("/api/apps/featured")
     @ResponseBody
-    public List<App> getFeaturedApps() {
+    public List<App> getFeaturedApps(WebRequest request) {
+        if (ConditionalGet.notModified(request, appService.getContentVersion())) {
+            return null;
+        }
         return appService.getFeaturedApps();
     }
 
     @GetMapping("/api/apps/{id}")
     @ResponseBody
-    public ResponseEntity<App> getApp(@PathVariable Long id) {
+    public ResponseEntity<App> getApp(@PathVariable Long id, WebRequest request) {
         Optional<App> app = appService.getAppById(id);
+        if (app.isPresent() && ConditionalGet.notModified(request, id, app.get().getUpdatedAt())) {
+            return null;
+        }
         return app.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
     }
 
@@ -1,5 +1,7 @@
 package com.example.lottery_app.controller;
 
+import com.example.lottery_app.dto.PostFacets;
+import com.example.lottery_app.dto.PostPage;
 import com.example.lottery_app.entity.BlogPost;
 import com.example.lottery_app.service.BlogService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -45,14 +48,76 @@ public class BlogController {
     // API endpoints for AJAX requests
     @GetMapping("/api/posts")
     @ResponseBody
-    public List<BlogPost> getAllPosts() {
+    public List<BlogPost> getAllPosts(WebRequest request) {
+        if (ConditionalGet.notModified(request, blogService.getContentVersion())) {
+            return null;
+        }
         return blogService.getAllPublishedPosts();
     }
 
+    @GetMapping("/api/posts/summaries")
+    @ResponseBody
+    public PostPage getPostSummaries(@RequestParam(required = false) String category,
+                                     @RequestParam(required = false) String cursor,
+                                     @RequestParam(defaultValue = "10") int limit,
+                                     WebRequest request) {
+        if (ConditionalGet.notModified(request, blogService.getContentVersion())) {
+            return null;
+        }
+        return blogService.getPostSummaries(category, cursor, Math.max(1, Math.min(limit, 50)));
+    }
+
+    @GetMapping("/api/posts/search")
+    @ResponseBody
+    public List<BlogPost> searchPostsApi(@RequestParam String query, WebRequest request) {
+        if (ConditionalGet.notModified(request, blogService.getContentVersion())) {
+            return null;
+        }
+        return blogService.searchPosts(query);
+    }
+
+    @GetMapping("/api/posts/filter")
+    @ResponseBody
+    public List<BlogPost> filterPosts(@RequestParam(required = false) String category,
+                                      @RequestParam(required = false) List<String> tags,
+                                      @RequestParam(defaultValue = "all") String match,
+                                      @RequestParam(defaultValue = "20") int limit,
+                                      WebRequest request) {
+        if (ConditionalGet.notModified(request, blogService.getContentVersion())) {
+            return null;
+        }
+        return blogService.filterPosts(category, tags, !"any".equalsIgnoreCase(match), Math.max(1, Math.min(limit, 100)));
+    }
+
+    @GetMapping("/api/posts/facets")
+    @ResponseBody
+    public PostFacets getFacets(@RequestParam(required = false) String category,
+                                @RequestParam(required = false) List<String> tags,
+                                @RequestParam(defaultValue = "all") String match,
+                                WebRequest request) {
+        if (ConditionalGet.notModified(request, blogService.getContentVersion())) {
+            return null;
+        }
+        return blogService.getFacets(category, tags, !"any".equalsIgnoreCase(match));
+    }
+
+    @GetMapping("/api/posts/recent")
+    @ResponseBody
+    public List<BlogPost> getRecentPosts(@RequestParam(defaultValue = "3") int limit, WebRequest request) {
+        if (ConditionalGet.notModified(request, blogService.getContentVersion())) {
+            return null;
+        }
+        return blogService.getRecentPosts(Math.max(1, Math.min(limit, 50)));
+    }
+
     @GetMapping("/api/posts/{id}")
     @ResponseBody
-    public ResponseEntity<BlogPost> getPost(@PathVariable Long id) {
+    public ResponseEntity<BlogPost> getPost(@PathVariable Long id, WebRequest request) {
         Optional<BlogPost> post = blogService.getPostById(id);
+        if (post.isPresent() && ConditionalGet.notModified(request, id, post.get().getUpdatedAt())) {
+            return null;
+        }
+        post = post.map(blogService::renderContent);
         return post.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
     }
 
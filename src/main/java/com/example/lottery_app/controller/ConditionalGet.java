@@ -0,0 +1,26 @@
+package com.example.lottery_app.controller;
+
+import com.example.lottery_app.dto.ContentVersion;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * ETag / Last-Modified helpers. When these return true the response is already a 304 and the
+ * handler should return null without loading or serializing anything.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    static boolean notModified(WebRequest request, ContentVersion version) {
+        long millis = version.lastModifiedMillis();
+        return request.checkNotModified("W/\"" + version.count() + "-" + millis + "\"", millis);
+    }
+
+    static boolean notModified(WebRequest request, Long id, LocalDateTime updatedAt) {
+        long millis = ContentVersion.toMillis(updatedAt);
+        return request.checkNotModified("W/\"" + id + "-" + millis + "\"", millis);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.lottery_app.controller;
+
+import com.example.lottery_app.service.ExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds download responses whose body is written by an export after the handler returns.
+ */
+final class ExportResponses {
+
+    private ExportResponses() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> attachment(String baseName, ExportService.Format format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(format.contentType()), StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(baseName + "." + format.extension()).build().toString())
+                .body(body);
+    }
+}
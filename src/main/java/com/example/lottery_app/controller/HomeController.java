@@ -1,15 +1,20 @@
 package com.example.lottery_app.controller;
 
+import com.example.lottery_app.dto.CacheStats;
+import com.example.lottery_app.dto.HomePage;
 import com.example.lottery_app.entity.App;
 import com.example.lottery_app.entity.BlogPost;
 import com.example.lottery_app.service.AppService;
 import com.example.lottery_app.service.BlogService;
+import com.example.lottery_app.service.HomeService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @Controller
 public class HomeController {
@@ -20,6 +25,9 @@ public class HomeController {
     @Autowired
     private AppService appService;
 
+    @Autowired
+    private HomeService homeService;
+
     @GetMapping("/")
     public String home(Model model) {
         return "redirect:/index.html";
@@ -30,6 +38,18 @@ public class HomeController {
         return "redirect:/about.html";
     }
 
+    @GetMapping("/api/home")
+    @ResponseBody
+    public HomePage homePage() {
+        return homeService.getHomePage();
+    }
+
+    @GetMapping("/api/cache/stats")
+    @ResponseBody
+    public Map<String, CacheStats> cacheStats() {
+        return Map.of("apps", appService.getCacheStats(), "blog", blogService.getCacheStats());
+    }
+
     @GetMapping("/contact")
     public String contact(Model model) {
         return "redirect:/contact.html";
@@ -1,13 +1,28 @@
 package com.example.lottery_app.controller;
 
+import com.example.lottery_app.dto.ResultPage;
+import com.example.lottery_app.dto.ResultStats;
 import com.example.lottery_app.entity.LotteryResult;
+import com.example.lottery_app.service.ExportService;
 import com.example.lottery_app.service.LotteryService;
+import com.example.lottery_app.service.ResultBroadcaster;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -17,13 +32,63 @@ public class LotteryController {
     @Autowired
     private LotteryService lotteryService;
 
+    @Autowired
+    private ResultBroadcaster resultBroadcaster;
+
+    @Autowired
+    private ExportService exportService;
+
     @PostMapping("/draw")
-    public LotteryResult drawWinner() {
-        return lotteryService.drawWinner();
+    public LotteryResult drawWinner(@RequestParam(defaultValue = "uniform") String mode,
+                                    @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return lotteryService.drawWinner(LotteryService.DEFAULT_POOL, idempotencyKey, LotteryService.DrawMode.parse(mode));
+    }
+
+    @PostMapping("/draw/multi")
+    public List<LotteryResult> drawWinners(@RequestParam int count,
+                                           @RequestParam(defaultValue = "uniform") String mode) {
+        return lotteryService.drawWinners(LotteryService.DEFAULT_POOL, count, LotteryService.DrawMode.parse(mode));
     }
 
     @GetMapping("/results")
     public List<LotteryResult> getAllLotteryResults() {
         return lotteryService.getAllLotteryResults();
     }
+
+    @GetMapping("/results/page")
+    public ResultPage getLotteryResultPage(@RequestParam(required = false) String pool,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(defaultValue = "50") int limit) {
+        return lotteryService.getLotteryResultPage(pool, from, to, cursor, Math.max(1, Math.min(limit, 500)));
+    }
+
+    @GetMapping("/results/stats")
+    public ResultStats getResultStats(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                      @RequestParam(defaultValue = "20") int top) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to.");
+        }
+        return lotteryService.getResultStats(from, to, Math.max(1, Math.min(top, 1000)));
+    }
+
+    // Full history as CSV or NDJSON, streamed from a database cursor
+    @GetMapping("/results/export")
+    public ResponseEntity<StreamingResponseBody> exportResults(@RequestParam(required = false) String pool,
+                                                               @RequestParam(defaultValue = "csv") String format) {
+        if (pool != null) {
+            LotteryService.checkPoolName(pool);
+        }
+        ExportService.Format exportFormat = ExportService.Format.parse(format);
+        return ExportResponses.attachment("lottery-results", exportFormat,
+                out -> exportService.exportResults(pool, exportFormat, out));
+    }
+
+    // Live results of every pool; reconnecting clients resume via the Last-Event-ID header
+    @GetMapping(value = "/results/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamResults(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return resultBroadcaster.subscribe(null, lastEventId);
+    }
 }
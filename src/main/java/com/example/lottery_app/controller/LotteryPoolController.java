@@ -0,0 +1,86 @@
+package com.example.lottery_app.controller;
+
+import com.example.lottery_app.dto.ImportResult;
+import com.example.lottery_app.entity.LotteryResult;
+import com.example.lottery_app.entity.Participant;
+import com.example.lottery_app.service.ExportService;
+import com.example.lottery_app.service.LotteryService;
+import com.example.lottery_app.service.ParticipantImportService;
+import com.example.lottery_app.service.ResultBroadcaster;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/pools/{pool}")
+public class LotteryPoolController {
+
+    @Autowired
+    private LotteryService lotteryService;
+
+    @Autowired
+    private ParticipantImportService participantImportService;
+
+    @Autowired
+    private ResultBroadcaster resultBroadcaster;
+
+    @Autowired
+    private ExportService exportService;
+
+    @PostMapping("/participants")
+    public Participant addParticipant(@PathVariable String pool, @RequestBody Participant participant) {
+        return lotteryService.addParticipant(pool, participant);
+    }
+
+    @PostMapping(value = "/participants/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ImportResult importParticipants(@PathVariable String pool, HttpServletRequest request) throws IOException {
+        return participantImportService.importParticipants(pool, request.getInputStream(),
+                ParticipantImportService.Format.fromContentType(request.getContentType()));
+    }
+
+    @GetMapping("/participants")
+    public List<Participant> getParticipants(@PathVariable String pool) {
+        return lotteryService.getParticipants(pool);
+    }
+
+    @GetMapping("/participants/export")
+    public ResponseEntity<StreamingResponseBody> exportParticipants(@PathVariable String pool,
+                                                                    @RequestParam(defaultValue = "csv") String format) {
+        LotteryService.checkPoolName(pool);
+        ExportService.Format exportFormat = ExportService.Format.parse(format);
+        return ExportResponses.attachment(pool + "-participants", exportFormat,
+                out -> exportService.exportParticipants(pool, exportFormat, out));
+    }
+
+    @PostMapping("/draw")
+    public LotteryResult drawWinner(@PathVariable String pool,
+                                    @RequestParam(defaultValue = "uniform") String mode,
+                                    @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return lotteryService.drawWinner(pool, idempotencyKey, LotteryService.DrawMode.parse(mode));
+    }
+
+    @PostMapping("/draw/multi")
+    public List<LotteryResult> drawWinners(@PathVariable String pool,
+                                           @RequestParam int count,
+                                           @RequestParam(defaultValue = "uniform") String mode) {
+        return lotteryService.drawWinners(pool, count, LotteryService.DrawMode.parse(mode));
+    }
+
+    @GetMapping("/results")
+    public List<LotteryResult> getLotteryResults(@PathVariable String pool) {
+        return lotteryService.getLotteryResults(pool);
+    }
+
+    @GetMapping(value = "/results/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamResults(@PathVariable String pool,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return resultBroadcaster.subscribe(LotteryService.checkPoolName(pool), lastEventId);
+    }
+}
@@ -1,10 +1,18 @@
 package com.example.lottery_app.controller;
 
+import com.example.lottery_app.dto.ImportResult;
 import com.example.lottery_app.entity.Participant;
+import com.example.lottery_app.service.ExportService;
 import com.example.lottery_app.service.LotteryService;
+import com.example.lottery_app.service.ParticipantImportService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -14,13 +22,32 @@ public class ParticipantController {
     @Autowired
     private LotteryService lotteryService;
 
+    @Autowired
+    private ParticipantImportService participantImportService;
+
+    @Autowired
+    private ExportService exportService;
+
     @PostMapping
     public Participant addParticipant(@RequestBody Participant participant) {
         return lotteryService.addParticipant(participant);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ImportResult importParticipants(HttpServletRequest request) throws IOException {
+        return participantImportService.importParticipants(LotteryService.DEFAULT_POOL, request.getInputStream(),
+                ParticipantImportService.Format.fromContentType(request.getContentType()));
+    }
+
     @GetMapping
     public List<Participant> getAllParticipants() {
         return lotteryService.getAllParticipants();
     }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportParticipants(@RequestParam(defaultValue = "csv") String format) {
+        ExportService.Format exportFormat = ExportService.Format.parse(format);
+        return ExportResponses.attachment("participants", exportFormat,
+                out -> exportService.exportParticipants(LotteryService.DEFAULT_POOL, exportFormat, out));
+    }
 }
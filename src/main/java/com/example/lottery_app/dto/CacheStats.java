@@ -0,0 +1,4 @@
+package com.example.lottery_app.dto;
+
+public record CacheStats(int size, long hits, long misses, long evictions) {
+}
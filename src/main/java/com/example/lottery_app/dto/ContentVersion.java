@@ -0,0 +1,19 @@
+package com.example.lottery_app.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Cheap version of a table: row count plus the latest {@code updatedAt}. Any insert, update or
+ * delete changes at least one of the two.
+ */
+public record ContentVersion(long count, LocalDateTime lastModified) {
+
+    public long lastModifiedMillis() {
+        return toMillis(lastModified);
+    }
+
+    public static long toMillis(LocalDateTime time) {
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.lottery_app.dto;
+
+import com.example.lottery_app.entity.App;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the homepage needs for first paint, in one response.
+ */
+public record HomePage(List<PostSummary> recentPosts, List<App> featuredApps,
+                       Map<String, Integer> blogCategories, Map<String, Integer> appCategories,
+                       int postCount, int appCount) {
+}
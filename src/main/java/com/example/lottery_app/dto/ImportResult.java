@@ -0,0 +1,10 @@
+package com.example.lottery_app.dto;
+
+public record ImportResult(long rows, long duplicates, long elapsedMillis, double rowsPerSecond) {
+
+    public static ImportResult of(long rows, long duplicates, long elapsedNanos) {
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        double rowsPerSecond = elapsedNanos == 0 ? rows : rows * 1_000_000_000d / elapsedNanos;
+        return new ImportResult(rows, duplicates, elapsedMillis, Math.round(rowsPerSecond * 10) / 10d);
+    }
+}
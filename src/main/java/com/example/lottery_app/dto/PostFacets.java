@@ -0,0 +1,9 @@
+package com.example.lottery_app.dto;
+
+import java.util.Map;
+
+/**
+ * Post counts per category and per tag among the posts matching a filter.
+ */
+public record PostFacets(int total, Map<String, Integer> categories, Map<String, Integer> tags) {
+}
@@ -0,0 +1,9 @@
+package com.example.lottery_app.dto;
+
+import java.util.List;
+
+/**
+ * One page of post summaries; {@code nextCursor} is null on the last page.
+ */
+public record PostPage(List<PostSummary> items, String nextCursor) {
+}
@@ -0,0 +1,17 @@
+package com.example.lottery_app.dto;
+
+import com.example.lottery_app.entity.BlogPost;
+
+import java.time.LocalDateTime;
+
+/**
+ * Listing view of a blog post: everything a card needs, without the markdown body.
+ */
+public record PostSummary(Long id, String title, String summary, String category, String tags,
+                          String author, String imageUrl, LocalDateTime createdAt) {
+
+    public static PostSummary of(BlogPost post) {
+        return new PostSummary(post.getId(), post.getTitle(), post.getSummary(), post.getCategory(), post.getTags(),
+                post.getAuthor(), post.getImageUrl(), post.getCreatedAt());
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.lottery_app.dto;
+
+import com.example.lottery_app.entity.LotteryResult;
+
+import java.util.List;
+
+/**
+ * One page of lottery results, newest first; {@code nextCursor} is null on the last page.
+ */
+public record ResultPage(List<LotteryResult> items, String nextCursor) {
+}
@@ -0,0 +1,11 @@
+package com.example.lottery_app.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SortedMap;
+
+public record ResultStats(long totalDraws, SortedMap<LocalDate, Long> drawsPerDay, List<WinnerCount> topWinners) {
+
+    public record WinnerCount(String winnerName, long wins) {
+    }
+}
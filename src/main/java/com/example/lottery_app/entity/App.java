@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "apps")
+@Table(name = "apps", indexes = @Index(name = "idx_apps_updated", columnList = "updated_at"))
 public class App {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,10 +1,14 @@
 package com.example.lottery_app.entity;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "blog_posts")
+@Table(name = "blog_posts", indexes = {
+        @Index(name = "idx_blog_posts_published_created", columnList = "published, created_at, id"),
+        @Index(name = "idx_blog_posts_updated", columnList = "updated_at")
+})
 public class BlogPost {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,6 +39,11 @@ public class BlogPost {
 
     private String imageUrl;
 
+    // Rendered HTML of content; only filled in for single-post API responses
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String contentHtml;
+
     // Constructors
     public BlogPost() {
         this.createdAt = LocalDateTime.now();
@@ -140,6 +149,14 @@ public class BlogPost {
         this.imageUrl = imageUrl;
     }
 
+    public String getContentHtml() {
+        return contentHtml;
+    }
+
+    public void setContentHtml(String contentHtml) {
+        this.contentHtml = contentHtml;
+    }
+
     @PreUpdate
     public void onUpdate() {
         this.updatedAt = LocalDateTime.now();
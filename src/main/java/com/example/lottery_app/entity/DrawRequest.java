@@ -0,0 +1,58 @@
+package com.example.lottery_app.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Remembers which result an idempotent draw request produced, keyed by pool and Idempotency-Key.
+ */
+@Entity
+@Table(name = "draw_requests")
+public class DrawRequest {
+
+    @Id
+    @Column(name = "request_key", length = 320)
+    private String requestKey;
+
+    @Column(name = "result_id", nullable = false)
+    private Long resultId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public DrawRequest() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public DrawRequest(String requestKey, Long resultId) {
+        this();
+        this.requestKey = requestKey;
+        this.resultId = resultId;
+    }
+
+    // Getters and Setters
+    public String getRequestKey() {
+        return requestKey;
+    }
+
+    public void setRequestKey(String requestKey) {
+        this.requestKey = requestKey;
+    }
+
+    public Long getResultId() {
+        return resultId;
+    }
+
+    public void setResultId(Long resultId) {
+        this.resultId = resultId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,20 +1,35 @@
 package com.example.lottery_app.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_lottery_result_pool", columnList = "pool"),
+        @Index(name = "idx_lottery_result_draw_time", columnList = "draw_time, id")
+})
 public class LotteryResult {
 
+    // Pooled sequence ids let multi-winner draws insert all results in one JDBC batch
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lottery_result_seq")
+    @SequenceGenerator(name = "lottery_result_seq", sequenceName = "lottery_result_seq", allocationSize = 50)
     private Long id;
     private String winnerName;
     private LocalDateTime drawTime;
 
+    private String pool;
+
+    @Column(name = "round_id")
+    private Long roundId;
+
     // Constructors
     public LotteryResult() {
     }
@@ -24,6 +39,12 @@ public class LotteryResult {
         this.drawTime = drawTime;
     }
 
+    public LotteryResult(String winnerName, LocalDateTime drawTime, String pool, Long roundId) {
+        this(winnerName, drawTime);
+        this.pool = pool;
+        this.roundId = roundId;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -48,4 +69,20 @@ public class LotteryResult {
     public void setDrawTime(LocalDateTime drawTime) {
         this.drawTime = drawTime;
     }
+
+    public String getPool() {
+        return pool;
+    }
+
+    public void setPool(String pool) {
+        this.pool = pool;
+    }
+
+    public Long getRoundId() {
+        return roundId;
+    }
+
+    public void setRoundId(Long roundId) {
+        this.roundId = roundId;
+    }
 }
@@ -0,0 +1,80 @@
+package com.example.lottery_app.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "lottery_rounds", indexes = @Index(name = "idx_lottery_round_pool_status", columnList = "pool, status"))
+public class LotteryRound {
+
+    public static final String OPEN = "open";
+    public static final String CLOSED = "closed";
+    public static final String PURGED = "purged";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String pool;
+
+    private String status; // "open", "closed", "purged"
+
+    @Column(name = "opened_at")
+    private LocalDateTime openedAt;
+
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+
+    // Constructors
+    public LotteryRound() {
+        this.status = OPEN;
+        this.openedAt = LocalDateTime.now();
+    }
+
+    public LotteryRound(String pool) {
+        this();
+        this.pool = pool;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getPool() {
+        return pool;
+    }
+
+    public void setPool(String pool) {
+        this.pool = pool;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getOpenedAt() {
+        return openedAt;
+    }
+
+    public void setOpenedAt(LocalDateTime openedAt) {
+        this.openedAt = openedAt;
+    }
+
+    public LocalDateTime getClosedAt() {
+        return closedAt;
+    }
+
+    public void setClosedAt(LocalDateTime closedAt) {
+        this.closedAt = closedAt;
+    }
+}
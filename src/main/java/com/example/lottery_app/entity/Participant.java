@@ -1,18 +1,32 @@
 package com.example.lottery_app.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 
 @Entity
+@Table(indexes = @Index(name = "idx_participant_round", columnList = "round_id, id"))
 public class Participant {
 
+    // Pooled sequence ids keep Hibernate JDBC batching available for bulk imports
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participant_seq")
+    @SequenceGenerator(name = "participant_seq", sequenceName = "participant_seq", allocationSize = 100)
     private Long id;
     private String name;
 
+    @Column(name = "round_id")
+    private Long roundId;
+
+    // Number of tickets held in weighted draws
+    @Column(nullable = false)
+    private int weight = 1;
+
     // Constructors
     public Participant() {
     }
@@ -21,6 +35,11 @@ public class Participant {
         this.name = name;
     }
 
+    public Participant(String name, int weight) {
+        this.name = name;
+        this.weight = weight;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -37,4 +56,20 @@ public class Participant {
     public void setName(String name) {
         this.name = name;
     }
+
+    public Long getRoundId() {
+        return roundId;
+    }
+
+    public void setRoundId(Long roundId) {
+        this.roundId = roundId;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.lottery_app.repository;
 
+import com.example.lottery_app.dto.ContentVersion;
 import com.example.lottery_app.entity.App;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -21,4 +22,7 @@ public interface AppRepository extends JpaRepository<App, Long> {
     
     @Query("SELECT a FROM App a WHERE a.featured = true AND a.status = 'active' ORDER BY a.createdAt DESC")
     List<App> findFeaturedApps();
+
+    @Query("SELECT new com.example.lottery_app.dto.ContentVersion(COUNT(a), MAX(a.updatedAt)) FROM App a")
+    ContentVersion findContentVersion();
 }
\ No newline at end of file
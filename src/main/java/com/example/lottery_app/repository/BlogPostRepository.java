@@ -1,24 +1,44 @@
 package com.example.lottery_app.repository;
 
+import com.example.lottery_app.dto.ContentVersion;
+import com.example.lottery_app.dto.PostSummary;
 import com.example.lottery_app.entity.BlogPost;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
     
     List<BlogPost> findByPublishedTrueOrderByCreatedAtDesc();
+
+    // Top-N pushed down into the query; no count query is issued for a List result
+    List<BlogPost> findByPublishedTrueOrderByCreatedAtDescIdDesc(Pageable pageable);
     
     List<BlogPost> findByCategoryAndPublishedTrueOrderByCreatedAtDesc(String category);
-    
-    @Query("SELECT DISTINCT b.category FROM BlogPost b WHERE b.published = true ORDER BY b.category")
-    List<String> findDistinctCategories();
-    
-    @Query("SELECT b FROM BlogPost b WHERE b.published = true ORDER BY b.createdAt DESC")
-    List<BlogPost> findTop3RecentPosts();
-    
-    List<BlogPost> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseAndPublishedTrue(String title, String content);
+
+    // Keyset pages of summaries, newest first; content is never selected
+    @Query("SELECT new com.example.lottery_app.dto.PostSummary(b.id, b.title, b.summary, b.category, b.tags, b.author, b.imageUrl, b.createdAt) " +
+           "FROM BlogPost b WHERE b.published = true AND (:category IS NULL OR b.category = :category) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<PostSummary> findSummaries(@Param("category") String category, Pageable pageable);
+
+    @Query("SELECT new com.example.lottery_app.dto.PostSummary(b.id, b.title, b.summary, b.category, b.tags, b.author, b.imageUrl, b.createdAt) " +
+           "FROM BlogPost b WHERE b.published = true AND (:category IS NULL OR b.category = :category) " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<PostSummary> findSummariesBefore(@Param("category") String category, @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT new com.example.lottery_app.dto.ContentVersion(COUNT(b), MAX(b.updatedAt)) FROM BlogPost b")
+    ContentVersion findContentVersion();
+
+    // Keyset batches over the primary key for rebuilding in-memory indexes. Filtering on published
+    // here makes H2 pick the published index and sort every remaining row for each batch.
+    List<BlogPost> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
 }
\ No newline at end of file
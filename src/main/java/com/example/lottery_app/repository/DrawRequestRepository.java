@@ -0,0 +1,9 @@
+package com.example.lottery_app.repository;
+
+import com.example.lottery_app.entity.DrawRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DrawRequestRepository extends JpaRepository<DrawRequest, String> {
+}
@@ -1,9 +1,45 @@
 package com.example.lottery_app.repository;
 
 import com.example.lottery_app.entity.LotteryResult;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface LotteryResultRepository extends JpaRepository<LotteryResult, Long> {
+
+    List<LotteryResult> findByPoolOrderByDrawTimeDesc(String pool);
+
+    // Keyset pages over [from, to), newest first, served by idx_lottery_result_draw_time
+    @Query("SELECT r FROM LotteryResult r WHERE r.drawTime >= :from AND r.drawTime < :to " +
+           "AND (:pool IS NULL OR r.pool = :pool) ORDER BY r.drawTime DESC, r.id DESC")
+    List<LotteryResult> findPage(@Param("pool") String pool, @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to, Pageable pageable);
+
+    @Query("SELECT r FROM LotteryResult r WHERE r.drawTime >= :from AND r.drawTime < :to " +
+           "AND (:pool IS NULL OR r.pool = :pool) " +
+           "AND (r.drawTime < :drawTime OR (r.drawTime = :drawTime AND r.id < :id)) " +
+           "ORDER BY r.drawTime DESC, r.id DESC")
+    List<LotteryResult> findPageBefore(@Param("pool") String pool, @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to, @Param("drawTime") LocalDateTime drawTime,
+                                       @Param("id") Long id, Pageable pageable);
+
+    // Cursor over the whole history for export; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT r FROM LotteryResult r WHERE (:pool IS NULL OR r.pool = :pool) ORDER BY r.id")
+    Stream<LotteryResult> streamAllForExport(@Param("pool") String pool);
+
+    // Startup aggregation for ResultStatistics; afterwards the counts are maintained incrementally
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT r.id, r.drawTime, r.winnerName FROM LotteryResult r")
+    Stream<Object[]> streamForStatistics();
 }
@@ -0,0 +1,31 @@
+package com.example.lottery_app.repository;
+
+import com.example.lottery_app.entity.LotteryRound;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LotteryRoundRepository extends JpaRepository<LotteryRound, Long> {
+
+    Optional<LotteryRound> findFirstByPoolAndStatusOrderByIdDesc(String pool, String status);
+
+    List<LotteryRound> findByStatus(String status);
+
+    @Query("SELECT r.id FROM LotteryRound r WHERE r.status = :status ORDER BY r.id")
+    List<Long> findIdsByStatus(@Param("status") String status);
+
+    @Modifying
+    @Query("UPDATE LotteryRound r SET r.status = 'closed', r.closedAt = :closedAt WHERE r.id = :id AND r.status = 'open'")
+    int close(@Param("id") Long id, @Param("closedAt") LocalDateTime closedAt);
+
+    @Modifying
+    @Query("UPDATE LotteryRound r SET r.status = 'purged' WHERE r.id = :id")
+    int markPurged(@Param("id") Long id);
+}
@@ -1,9 +1,60 @@
 package com.example.lottery_app.repository;
 
 import com.example.lottery_app.entity.Participant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
+
+    long countByRoundId(Long roundId);
+
+    List<Participant> findByRoundId(Long roundId);
+
+    // Single-row seeks on the (round_id, id) index for uniform draws; H2 only reads the index
+    // in order, instead of sorting the round, when the ORDER BY names both of its columns
+    Optional<Participant> findFirstByRoundIdOrderByRoundIdAscIdAsc(Long roundId);
+
+    Optional<Participant> findFirstByRoundIdOrderByRoundIdDescIdDesc(Long roundId);
+
+    Optional<Participant> findFirstByRoundIdAndIdGreaterThanEqualOrderByRoundIdAscIdAsc(Long roundId, Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.id FROM Participant p WHERE p.roundId = :roundId")
+    Stream<Long> streamIdsByRoundId(@Param("roundId") Long roundId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.name FROM Participant p WHERE p.roundId = :roundId")
+    Stream<String> streamNamesByRoundId(@Param("roundId") Long roundId);
+
+    // Exact confirmation of a duplicate-filter hit
+    boolean existsByRoundIdAndName(Long roundId, String name);
+
+    @Query("SELECT COUNT(p) > 0 FROM Participant p WHERE p.roundId = :roundId AND LOWER(TRIM(p.name)) = :name")
+    boolean existsByRoundIdAndNormalizedName(@Param("roundId") Long roundId, @Param("name") String name);
+
+    // Entity rows for export; the caller detaches each one once written
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p FROM Participant p WHERE p.roundId = :roundId ORDER BY p.id")
+    Stream<Participant> streamByRoundId(@Param("roundId") Long roundId);
+
+    // Scalar (id, weight) rows for building a weighted draw table; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.id, p.weight FROM Participant p WHERE p.roundId = :roundId")
+    Stream<Object[]> streamIdsAndWeightsByRoundId(@Param("roundId") Long roundId);
+
+    // Single bulk statement; never loads the entities it removes
+    @Modifying
+    @Query("DELETE FROM Participant p WHERE p.roundId = :roundId")
+    int deleteAllByRoundIdInBulk(@Param("roundId") Long roundId);
 }
@@ -0,0 +1,85 @@
+package com.example.lottery_app.service;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Walker/Vose alias table over participant ids. Building is O(n) over primitive arrays;
+ * every sample afterwards is one uniform index plus one biased coin flip.
+ */
+public final class AliasTable {
+
+    private final long[] ids;
+    private final double[] probability;
+    private final int[] alias;
+
+    private AliasTable(long[] ids, double[] probability, int[] alias) {
+        this.ids = ids;
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    /**
+     * Builds a table from the first {@code size} entries of {@code ids} and their positive weights.
+     * The id array is kept by reference and must not be modified afterwards.
+     */
+    public static AliasTable build(long[] ids, int[] weights, int size) {
+        if (size == 0) {
+            throw new IllegalArgumentException("Cannot build an alias table without entries");
+        }
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += weights[i];
+        }
+
+        double[] probability = new double[size];
+        int[] alias = new int[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            probability[i] = weights[i] * (double) size / total;
+            if (probability[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            alias[less] = more;
+            probability[more] = probability[more] + probability[less] - 1.0;
+            if (probability[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is 1.0 up to rounding error
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+        return new AliasTable(ids, probability, alias);
+    }
+
+    public int size() {
+        return probability.length;
+    }
+
+    /**
+     * Returns the position of a sampled entry, in the order the table was built from.
+     */
+    public int sampleIndex(RandomGenerator random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    public long sample(RandomGenerator random) {
+        return ids[sampleIndex(random)];
+    }
+}
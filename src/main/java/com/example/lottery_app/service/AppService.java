@@ -1,25 +1,56 @@
 package com.example.lottery_app.service;
 
+import com.example.lottery_app.dto.CacheStats;
+import com.example.lottery_app.dto.ContentVersion;
 import com.example.lottery_app.entity.App;
 import com.example.lottery_app.repository.AppRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 public class AppService {
 
+    private static final String ACTIVE = "active";
+    private static final String FEATURED = "featured";
+    private static final String CATEGORIES = "categories";
+    private static final String CATEGORY_PREFIX = "category:";
+
     @Autowired
     private AppRepository appRepository;
 
+    @Value("${cache.max-entries:256}")
+    private int cacheMaxEntries;
+
+    @Value("${cache.list-ttl:10m}")
+    private Duration listTtl;
+
+    @Value("${cache.categories-ttl:1h}")
+    private Duration categoriesTtl;
+
+    private ReadThroughCache cache;
+
+    @PostConstruct
+    void initCache() {
+        cache = new ReadThroughCache(cacheMaxEntries);
+    }
+
+    public ContentVersion getContentVersion() {
+        return appRepository.findContentVersion();
+    }
+
     public List<App> getAllActiveApps() {
-        return appRepository.findByStatusOrderByCreatedAtDesc("active");
+        return cache.get(ACTIVE, listTtl, () -> List.copyOf(appRepository.findByStatusOrderByCreatedAtDesc("active")));
     }
 
     public List<App> getFeaturedApps() {
-        return appRepository.findFeaturedApps();
+        return cache.get(FEATURED, listTtl, () -> List.copyOf(appRepository.findFeaturedApps()));
     }
 
     public Optional<App> getAppById(Long id) {
@@ -27,24 +58,51 @@ public class AppService {
     }
 
     public List<App> getAppsByCategory(String category) {
-        return appRepository.findByCategoryOrderByCreatedAtDesc(category);
+        return cache.get(CATEGORY_PREFIX + category, listTtl,
+                () -> List.copyOf(appRepository.findByCategoryOrderByCreatedAtDesc(category)));
     }
 
     public List<String> getAllCategories() {
-        return appRepository.findDistinctCategories();
+        return cache.get(CATEGORIES, categoriesTtl, () -> List.copyOf(appRepository.findDistinctCategories()));
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.stats();
     }
 
     public App saveApp(App app) {
-        return appRepository.save(app);
+        // Keys taken before saving: the lookup may return the managed instance that save() merges into
+        List<String> previousKeys = app.getId() == null ? List.of()
+                : appRepository.findById(app.getId()).map(this::listingKeysOf).orElse(List.of());
+        App saved = appRepository.save(app);
+        previousKeys.forEach(cache::evict);
+        listingKeysOf(saved).forEach(cache::evict);
+        return saved;
     }
 
     public void deleteApp(Long id) {
+        List<String> previousKeys = appRepository.findById(id).map(this::listingKeysOf).orElse(List.of());
         appRepository.deleteById(id);
+        previousKeys.forEach(cache::evict);
     }
 
     public App createApp(String name, String description, String appUrl, String category, String technology) {
         App app = new App(name, description, appUrl, category);
         app.setTechnology(technology);
-        return appRepository.save(app);
+        return saveApp(app);
+    }
+
+    // The cached listings this app appears in, so a write drops only those
+    private List<String> listingKeysOf(App app) {
+        List<String> keys = new ArrayList<>(4);
+        keys.add(CATEGORY_PREFIX + app.getCategory());
+        if ("active".equals(app.getStatus())) {
+            keys.add(ACTIVE);
+            keys.add(CATEGORIES);
+            if (app.isFeatured()) {
+                keys.add(FEATURED);
+            }
+        }
+        return keys;
     }
-}
\ No newline at end of file
+}
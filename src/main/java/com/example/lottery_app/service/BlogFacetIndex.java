@@ -0,0 +1,224 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.dto.PostFacets;
+import com.example.lottery_app.entity.BlogPost;
+import com.example.lottery_app.repository.BlogPostRepository;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory category and tag index over published posts. Each category and each normalized
+ * tag (trimmed, lower-cased, de-duplicated) maps to a Roaring bitmap of post ids, so tag
+ * AND/OR filters and facet counts are bitmap operations instead of scans over the tags column.
+ */
+@Component
+public class BlogFacetIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogFacetIndex.class);
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, RoaringBitmap> categories = new HashMap<>();
+
+    private final Map<String, RoaringBitmap> tags = new HashMap<>();
+
+    private final RoaringBitmap allPosts = new RoaringBitmap();
+
+    // post id -> what it was indexed under, so a post can be removed without re-reading it
+    private final Map<Integer, Indexed> documents = new HashMap<>();
+
+    private record Indexed(String category, Set<String> tags) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            categories.clear();
+            tags.clear();
+            allPosts.clear();
+            documents.clear();
+            long lastId = 0;
+            List<BlogPost> batch;
+            while (!(batch = blogPostRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastId)).isEmpty()) {
+                for (BlogPost post : batch) {
+                    if (post.isPublished()) {
+                        add(post);
+                    }
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+            categories.values().forEach(RoaringBitmap::runOptimize);
+            tags.values().forEach(RoaringBitmap::runOptimize);
+            allPosts.runOptimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Faceted {} posts ({} categories, {} tags) in {} ms",
+                documents.size(), categories.size(), tags.size(), System.currentTimeMillis() - start);
+    }
+
+    public void update(BlogPost post) {
+        lock.writeLock().lock();
+        try {
+            remove(post.getId());
+            if (post.isPublished()) {
+                add(post);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long id) {
+        lock.writeLock().lock();
+        try {
+            remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<String> getCategories() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(new TreeMap<>(categories).keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of posts in {@code category} (if given) carrying all ({@code matchAll})
+     * or any of {@code tagFilter} (if given), highest id first.
+     */
+    public List<Long> filter(String category, Collection<String> tagFilter, boolean matchAll, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = match(category, tagFilter, matchAll);
+            List<Long> ids = new ArrayList<>(Math.min(limit, matches.getCardinality()));
+            IntIterator newestFirst = matches.getReverseIntIterator();
+            while (newestFirst.hasNext() && ids.size() < limit) {
+                ids.add((long) newestFirst.next());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the posts matching the filter per category and per tag.
+     */
+    public PostFacets facets(String category, Collection<String> tagFilter, boolean matchAll) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = match(category, tagFilter, matchAll);
+            return new PostFacets(matches.getCardinality(), counts(categories, matches), counts(tags, matches));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static Set<String> normalizeTags(String tagList) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (tagList != null) {
+            for (String tag : tagList.split("[,，]")) {
+                String trimmed = tag.trim().toLowerCase(Locale.ROOT);
+                if (!trimmed.isEmpty()) {
+                    normalized.add(trimmed);
+                }
+            }
+        }
+        return normalized;
+    }
+
+    private RoaringBitmap match(String category, Collection<String> tagFilter, boolean matchAll) {
+        RoaringBitmap result = allPosts;
+        if (category != null && !category.isBlank()) {
+            result = categories.getOrDefault(category, new RoaringBitmap());
+        }
+        Set<String> wanted = normalizeTags(tagFilter == null ? null : String.join(",", tagFilter));
+        if (!wanted.isEmpty()) {
+            List<RoaringBitmap> postings = wanted.stream()
+                    .map(tag -> tags.getOrDefault(tag, new RoaringBitmap()))
+                    .toList();
+            RoaringBitmap tagged = matchAll ? FastAggregation.and(postings.iterator()) : FastAggregation.or(postings.iterator());
+            result = RoaringBitmap.and(result, tagged);
+        }
+        return result;
+    }
+
+    private static Map<String, Integer> counts(Map<String, RoaringBitmap> postings, RoaringBitmap matches) {
+        Map<String, Integer> counts = new TreeMap<>();
+        postings.forEach((key, posts) -> {
+            int count = RoaringBitmap.andCardinality(posts, matches);
+            if (count > 0) {
+                counts.put(key, count);
+            }
+        });
+        return counts;
+    }
+
+    private void add(BlogPost post) {
+        int id = Math.toIntExact(post.getId());
+        String category = post.getCategory() == null || post.getCategory().isBlank() ? null : post.getCategory();
+        Set<String> postTags = normalizeTags(post.getTags());
+        if (category != null) {
+            categories.computeIfAbsent(category, c -> new RoaringBitmap()).add(id);
+        }
+        for (String tag : postTags) {
+            tags.computeIfAbsent(tag, t -> new RoaringBitmap()).add(id);
+        }
+        allPosts.add(id);
+        documents.put(id, new Indexed(category, postTags));
+    }
+
+    private void remove(Long postId) {
+        int id = Math.toIntExact(postId);
+        Indexed indexed = documents.remove(id);
+        if (indexed == null) {
+            return;
+        }
+        if (indexed.category() != null) {
+            removeFrom(categories, indexed.category(), id);
+        }
+        for (String tag : indexed.tags()) {
+            removeFrom(tags, tag, id);
+        }
+        allPosts.remove(id);
+    }
+
+    private static void removeFrom(Map<String, RoaringBitmap> postings, String key, int id) {
+        RoaringBitmap posts = postings.get(key);
+        if (posts != null) {
+            posts.remove(id);
+            if (posts.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+}
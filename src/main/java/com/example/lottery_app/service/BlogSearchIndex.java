@@ -0,0 +1,338 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.BlogPost;
+import com.example.lottery_app.repository.BlogPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over published posts. CJK text is indexed as single characters
+ * and overlapping bigrams, everything else as lower-cased words. A query matches posts that
+ * contain all of its terms, ranked by TF-IDF with title and tag hits weighted higher, so its
+ * cost follows the size of the matching posting lists rather than the number of posts.
+ * <p>
+ * Posts are numbered with dense ordinals and terms with ids, so postings are primitive arrays
+ * sorted by ordinal (new posts always take the next ordinal) and intersect by binary search.
+ */
+@Component
+public class BlogSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BlogSearchIndex.class);
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int BODY_WEIGHT = 1;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+
+    // term id -> posts containing it
+    private final List<PostingList> postings = new ArrayList<>();
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+
+    // ordinal -> post id, and the term ids it was indexed under (null once removed)
+    private long[] postIds = new long[1024];
+    private int[][] documentTerms = new int[1024][];
+    private int nextOrdinal;
+
+    // Scratch for add(): weighted frequency per term id, and the term ids touched
+    private int[] counts = new int[1024];
+    private int[] touched = new int[256];
+    private int touchedCount;
+
+    private static final class PostingList {
+        int[] ordinals = new int[4];
+        int[] frequencies = new int[4];
+        int size;
+
+        void append(int ordinal, int frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        // Index of the ordinal, or (-(insertion point) - 1), searching from {@code from}
+        int find(int ordinal, int from) {
+            return Arrays.binarySearch(ordinals, from, size, ordinal);
+        }
+
+        void remove(int ordinal) {
+            int at = find(ordinal, 0);
+            if (at >= 0) {
+                System.arraycopy(ordinals, at + 1, ordinals, at, size - at - 1);
+                System.arraycopy(frequencies, at + 1, frequencies, at, size - at - 1);
+                size--;
+            }
+        }
+
+        void trim() {
+            ordinals = Arrays.copyOf(ordinals, size);
+            frequencies = Arrays.copyOf(frequencies, size);
+        }
+    }
+
+    private record Hit(int ordinal, double score) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            termIds.clear();
+            postings.clear();
+            ordinals.clear();
+            postIds = new long[1024];
+            documentTerms = new int[1024][];
+            nextOrdinal = 0;
+            long lastId = 0;
+            List<BlogPost> batch;
+            while (!(batch = blogPostRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastId)).isEmpty()) {
+                for (BlogPost post : batch) {
+                    if (post.isPublished()) {
+                        add(post);
+                    }
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+            postings.forEach(PostingList::trim);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} posts ({} terms) in {} ms", ordinals.size(), termIds.size(), System.currentTimeMillis() - start);
+    }
+
+    public void update(BlogPost post) {
+        lock.writeLock().lock();
+        try {
+            remove(post.getId());
+            if (post.isPublished()) {
+                add(post);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long id) {
+        lock.writeLock().lock();
+        try {
+            remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of posts containing every query term, best match first.
+     */
+    public List<Long> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenizeQuery(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Integer termId = termIds.get(term);
+                if (termId == null || postings.get(termId).size == 0) {
+                    return List.of();
+                }
+                lists.add(postings.get(termId));
+            }
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+            int documents = ordinals.size();
+            double[] idf = new double[lists.size()];
+            for (int l = 0; l < idf.length; l++) {
+                idf[l] = Math.log(1 + (double) documents / lists.get(l).size);
+            }
+            int[] cursors = new int[lists.size()];
+            PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::score));
+            PostingList first = lists.get(0);
+            candidates:
+            for (int i = 0; i < first.size; i++) {
+                int ordinal = first.ordinals[i];
+                double score = (1 + Math.log(first.frequencies[i])) * idf[0];
+                for (int l = 1; l < cursors.length; l++) {
+                    PostingList list = lists.get(l);
+                    int at = list.find(ordinal, cursors[l]);
+                    if (at < 0) {
+                        cursors[l] = -at - 1;
+                        continue candidates;
+                    }
+                    cursors[l] = at + 1;
+                    score += (1 + Math.log(list.frequencies[at])) * idf[l];
+                }
+                if (top.size() < limit) {
+                    top.add(new Hit(ordinal, score));
+                } else if (score > top.peek().score()) {
+                    top.poll();
+                    top.add(new Hit(ordinal, score));
+                }
+            }
+            Long[] ids = new Long[top.size()];
+            for (int i = ids.length - 1; i >= 0; i--) {
+                ids[i] = postIds[top.poll().ordinal()];
+            }
+            return List.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(BlogPost post) {
+        count(post.getTitle(), TITLE_WEIGHT);
+        count(post.getTags(), TAG_WEIGHT);
+        count(post.getSummary(), BODY_WEIGHT);
+        count(post.getContent(), BODY_WEIGHT);
+
+        int ordinal = nextOrdinal++;
+        if (ordinal == postIds.length) {
+            postIds = Arrays.copyOf(postIds, ordinal * 2);
+            documentTerms = Arrays.copyOf(documentTerms, ordinal * 2);
+        }
+        int[] terms = Arrays.copyOf(touched, touchedCount);
+        for (int termId : terms) {
+            postings.get(termId).append(ordinal, counts[termId]);
+            counts[termId] = 0;
+        }
+        touchedCount = 0;
+        postIds[ordinal] = post.getId();
+        documentTerms[ordinal] = terms;
+        ordinals.put(post.getId(), ordinal);
+    }
+
+    private void remove(Long id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        for (int termId : documentTerms[ordinal]) {
+            postings.get(termId).remove(ordinal);
+        }
+        documentTerms[ordinal] = null;
+    }
+
+    private void count(String text, int weight) {
+        if (text == null) {
+            return;
+        }
+        for (String term : tokenize(text)) {
+            Integer termId = termIds.get(term);
+            if (termId == null) {
+                termId = postings.size();
+                termIds.put(term, termId);
+                postings.add(new PostingList());
+                if (termId == counts.length) {
+                    counts = Arrays.copyOf(counts, termId * 2);
+                }
+            }
+            if (counts[termId] == 0) {
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedCount * 2);
+                }
+                touched[touchedCount++] = termId;
+            }
+            counts[termId] += weight;
+        }
+    }
+
+    /**
+     * Splits text into lower-cased words and, for runs of CJK characters, single characters
+     * plus overlapping bigrams. A query run of two or more CJK characters keeps only its
+     * bigrams so that matches respect character order.
+     */
+    static List<String> tokenize(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean unigrams) {
+        List<String> terms = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        int[] cjkRun = new int[16];
+        int runLength = 0;
+        int i = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (isCjk(codePoint)) {
+                flushWord(word, terms);
+                if (runLength == cjkRun.length) {
+                    cjkRun = Arrays.copyOf(cjkRun, runLength * 2);
+                }
+                cjkRun[runLength++] = codePoint;
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                runLength = flushCjk(cjkRun, runLength, terms, unigrams);
+                word.appendCodePoint(Character.toLowerCase(codePoint));
+            } else {
+                flushWord(word, terms);
+                runLength = flushCjk(cjkRun, runLength, terms, unigrams);
+            }
+        }
+        flushWord(word, terms);
+        flushCjk(cjkRun, runLength, terms, unigrams);
+        return terms;
+    }
+
+    static List<String> tokenizeQuery(String query) {
+        return tokenize(query, false);
+    }
+
+    private static void flushWord(StringBuilder word, List<String> terms) {
+        if (!word.isEmpty()) {
+            terms.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    // Emits the run's terms and returns the new (empty) run length
+    private static int flushCjk(int[] run, int length, List<String> terms, boolean unigrams) {
+        if (length == 0) {
+            return 0;
+        }
+        if (unigrams || length == 1) {
+            for (int j = 0; j < length; j++) {
+                terms.add(new String(run, j, 1));
+            }
+        }
+        for (int j = 0; j + 1 < length; j++) {
+            terms.add(new String(run, j, 2));
+        }
+        return 0;
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
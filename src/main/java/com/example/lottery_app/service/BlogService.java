@@ -1,56 +1,177 @@
 package com.example.lottery_app.service;
 
+import com.example.lottery_app.dto.CacheStats;
+import com.example.lottery_app.dto.ContentVersion;
+import com.example.lottery_app.dto.PostFacets;
+import com.example.lottery_app.dto.PostPage;
+import com.example.lottery_app.dto.PostSummary;
 import com.example.lottery_app.entity.BlogPost;
 import com.example.lottery_app.repository.BlogPostRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class BlogService {
 
+    private static final int SEARCH_LIMIT = 100;
+
+    private static final String PUBLISHED = "published";
+    private static final String CATEGORY_PREFIX = "category:";
+
     @Autowired
     private BlogPostRepository blogPostRepository;
 
+    @Autowired
+    private RecentPostsFeed recentPostsFeed;
+
+    @Autowired
+    private BlogSearchIndex blogSearchIndex;
+
+    @Autowired
+    private MarkdownRenderer markdownRenderer;
+
+    @Autowired
+    private BlogFacetIndex blogFacetIndex;
+
+    @Value("${cache.max-entries:256}")
+    private int cacheMaxEntries;
+
+    @Value("${cache.list-ttl:10m}")
+    private Duration listTtl;
+
+    private ReadThroughCache cache;
+
+    @PostConstruct
+    void initCache() {
+        cache = new ReadThroughCache(cacheMaxEntries);
+    }
+
     public List<BlogPost> getAllPublishedPosts() {
-        return blogPostRepository.findByPublishedTrueOrderByCreatedAtDesc();
+        return cache.get(PUBLISHED, listTtl, () -> List.copyOf(blogPostRepository.findByPublishedTrueOrderByCreatedAtDesc()));
     }
 
     public List<BlogPost> getRecentPosts(int limit) {
-        List<BlogPost> allPosts = blogPostRepository.findByPublishedTrueOrderByCreatedAtDesc();
-        return allPosts.stream().limit(limit).toList();
+        if (limit <= recentPostsFeed.capacity()) {
+            return recentPostsFeed.getRecentPosts(limit);
+        }
+        return blogPostRepository.findByPublishedTrueOrderByCreatedAtDescIdDesc(PageRequest.of(0, limit));
+    }
+
+    /**
+     * Returns a page of published post summaries, newest first, continuing after {@code cursor}.
+     */
+    public PostPage getPostSummaries(String category, String cursor, int limit) {
+        String filter = category == null || category.isBlank() ? null : category;
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<PostSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = blogPostRepository.findSummaries(filter, page);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = blogPostRepository.findSummariesBefore(filter, position.time(), position.id(), page);
+        }
+        if (rows.size() <= limit) {
+            return new PostPage(rows, null);
+        }
+        List<PostSummary> items = new ArrayList<>(rows.subList(0, limit));
+        PostSummary last = items.get(limit - 1);
+        return new PostPage(items, new KeysetCursor(last.createdAt(), last.id()).encode());
+    }
+
+    public ContentVersion getContentVersion() {
+        return blogPostRepository.findContentVersion();
     }
 
     public Optional<BlogPost> getPostById(Long id) {
         return blogPostRepository.findById(id);
     }
 
+    // Fills in contentHtml from the render cache
+    public BlogPost renderContent(BlogPost post) {
+        post.setContentHtml(markdownRenderer.render(post.getContent()));
+        return post;
+    }
+
     public List<BlogPost> getPostsByCategory(String category) {
-        return blogPostRepository.findByCategoryAndPublishedTrueOrderByCreatedAtDesc(category);
+        return cache.get(CATEGORY_PREFIX + category, listTtl,
+                () -> List.copyOf(blogPostRepository.findByCategoryAndPublishedTrueOrderByCreatedAtDesc(category)));
     }
 
     public List<String> getAllCategories() {
-        return blogPostRepository.findDistinctCategories();
+        return blogFacetIndex.getCategories();
+    }
+
+    /**
+     * Published posts in {@code category} (if given) tagged with all or any of {@code tags}, newest first.
+     */
+    public List<BlogPost> filterPosts(String category, Collection<String> tags, boolean matchAll, int limit) {
+        return loadInOrder(blogFacetIndex.filter(category, tags, matchAll, limit));
+    }
+
+    public PostFacets getFacets(String category, Collection<String> tags, boolean matchAll) {
+        return blogFacetIndex.facets(category, tags, matchAll);
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.stats();
     }
 
     public BlogPost savePost(BlogPost post) {
-        return blogPostRepository.save(post);
+        // Keys taken before saving: the lookup may return the managed instance that save() merges into
+        List<String> previousKeys = post.getId() == null ? List.of()
+                : blogPostRepository.findById(post.getId()).map(this::listingKeysOf).orElse(List.of());
+        BlogPost saved = blogPostRepository.save(post);
+        previousKeys.forEach(cache::evict);
+        listingKeysOf(saved).forEach(cache::evict);
+        markdownRenderer.render(saved.getContent()); // render at write time so reads hit the cache
+        recentPostsFeed.postSaved(saved);
+        blogSearchIndex.update(saved);
+        blogFacetIndex.update(saved);
+        return saved;
     }
 
     public void deletePost(Long id) {
+        List<String> previousKeys = blogPostRepository.findById(id).map(this::listingKeysOf).orElse(List.of());
         blogPostRepository.deleteById(id);
+        previousKeys.forEach(cache::evict);
+        recentPostsFeed.postDeleted(id);
+        blogSearchIndex.delete(id);
+        blogFacetIndex.delete(id);
     }
 
     public BlogPost createPost(String title, String summary, String content, String category, String author) {
         BlogPost post = new BlogPost(title, summary, content, category, author);
         post.setPublished(true);
-        return blogPostRepository.save(post);
+        return savePost(post);
+    }
+
+    // The cached listings this post appears in, so a write drops only those
+    private List<String> listingKeysOf(BlogPost post) {
+        return post.isPublished() ? List.of(PUBLISHED, CATEGORY_PREFIX + post.getCategory()) : List.of();
     }
 
     public List<BlogPost> searchPosts(String query) {
-        return blogPostRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseAndPublishedTrue(query, query);
+        return loadInOrder(blogSearchIndex.search(query, SEARCH_LIMIT));
+    }
+
+    private List<BlogPost> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BlogPost> posts = blogPostRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(BlogPost::getId, Function.identity()));
+        return ids.stream().map(posts::get).filter(post -> post != null && post.isPublished()).toList();
     }
 }
\ No newline at end of file
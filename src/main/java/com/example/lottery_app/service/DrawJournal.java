@@ -0,0 +1,293 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.LotteryResult;
+import com.example.lottery_app.repository.LotteryResultRepository;
+import com.example.lottery_app.repository.ParticipantRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Optional append-only journal of registrations and draws in a memory-mapped file. Records are
+ * fixed-size and checksummed; appends reuse one scratch buffer, so they allocate nothing.
+ *
+ * <p>At startup the journal is scanned once to rebuild each pool's last drawn round and open
+ * round, stopping at the first torn or corrupt record. Once the application is ready that state
+ * is checked against the database and the file is compacted down to the open rounds and the
+ * latest draw of each pool.
+ */
+@Component
+public class DrawJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(DrawJournal.class);
+
+    static final byte REGISTRATION = 1;
+    static final byte DRAW = 2;
+
+    // crc(4) type(1) poolLength(1) reserved(2) sequence(8) timestamp(8) roundId(8) entityId(8) value(8) pool(64) padding
+    private static final int RECORD_SIZE = 128;
+    private static final int CRC_OFFSET = 0;
+    private static final int TYPE_OFFSET = 4;
+    private static final int POOL_LENGTH_OFFSET = 5;
+    private static final int SEQUENCE_OFFSET = 8;
+    private static final int TIMESTAMP_OFFSET = 16;
+    private static final int ROUND_OFFSET = 24;
+    private static final int ENTITY_OFFSET = 32;
+    private static final int VALUE_OFFSET = 40;
+    private static final int POOL_OFFSET = 48;
+    private static final int MAX_POOL_LENGTH = 64;
+
+    @Value("${lottery.journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${lottery.journal.path:data/draw-journal.bin}")
+    private Path path;
+
+    @Value("${lottery.journal.size-mb:64}")
+    private int sizeMb;
+
+    @Autowired
+    private LotteryResultRepository lotteryResultRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final ByteBuffer record = ByteBuffer.wrap(scratch);
+    private final CRC32 crc = new CRC32();
+
+    private final Map<String, PoolState> pools = new HashMap<>();
+
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private int position;
+    private long sequence;
+
+    private static final class PoolState {
+        long lastDrawnRound;
+        long lastResultId;
+        long openRound;
+        long registrations;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        map(Math.max(sizeMb * 1024L * 1024L, Files.exists(path) ? Files.size(path) : 0));
+        long start = System.nanoTime();
+        replay();
+        log.info("Replayed {} journal records for {} pools in {} ms",
+                position / RECORD_SIZE, pools.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void verifyAndCompact() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        for (Map.Entry<String, PoolState> entry : pools.entrySet()) {
+            PoolState state = entry.getValue();
+            if (state.lastResultId != 0 && !lotteryResultRepository.existsById(state.lastResultId)) {
+                log.warn("Pool {}: journaled draw of round {} (result {}) is missing from the database",
+                        entry.getKey(), state.lastDrawnRound, state.lastResultId);
+            }
+            if (state.openRound != 0) {
+                long stored = participantRepository.countByRoundId(state.openRound);
+                if (stored != state.registrations) {
+                    log.warn("Pool {}: round {} has {} journaled registrations but {} in the database",
+                            entry.getKey(), state.openRound, state.registrations, stored);
+                }
+            }
+        }
+        compact();
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        mapped.force();
+        channel.close();
+        channel = null;
+    }
+
+    public void recordRegistration(String pool, long roundId, long participantId, int weight) {
+        if (enabled) {
+            append(REGISTRATION, pool, roundId, participantId, weight);
+        }
+    }
+
+    /**
+     * Must be called inside the transaction that stores the results; they are journaled once it commits.
+     */
+    public void recordDrawsAfterCommit(List<LotteryResult> results) {
+        if (!enabled) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (LotteryResult result : results) {
+                    append(DRAW, result.getPool(), result.getRoundId(), result.getId(), 0);
+                }
+            }
+        });
+    }
+
+    private synchronized void append(byte type, String pool, long roundId, long entityId, long value) {
+        if (channel == null) {
+            return;
+        }
+        if (position + RECORD_SIZE > mapped.capacity()) {
+            grow();
+        }
+        sequence++;
+        record.putLong(SEQUENCE_OFFSET, sequence)
+                .putLong(TIMESTAMP_OFFSET, System.currentTimeMillis())
+                .putLong(ROUND_OFFSET, roundId)
+                .putLong(ENTITY_OFFSET, entityId)
+                .putLong(VALUE_OFFSET, value);
+        record.put(TYPE_OFFSET, type);
+        int length = Math.min(pool.length(), MAX_POOL_LENGTH);
+        record.put(POOL_LENGTH_OFFSET, (byte) length);
+        for (int i = 0; i < MAX_POOL_LENGTH; i++) {
+            record.put(POOL_OFFSET + i, i < length ? (byte) pool.charAt(i) : 0); // pool names are ASCII
+        }
+        crc.reset();
+        crc.update(scratch, TYPE_OFFSET, RECORD_SIZE - TYPE_OFFSET);
+        record.putInt(CRC_OFFSET, (int) crc.getValue());
+        mapped.put(position, scratch);
+        position += RECORD_SIZE;
+        apply(type, pools.computeIfAbsent(pool, p -> new PoolState()), roundId, entityId);
+    }
+
+    private void replay() {
+        pools.clear();
+        position = 0;
+        while (position + RECORD_SIZE <= mapped.capacity()) {
+            mapped.get(position, scratch);
+            byte type = scratch[TYPE_OFFSET];
+            if (type != REGISTRATION && type != DRAW) {
+                break;
+            }
+            crc.reset();
+            crc.update(scratch, TYPE_OFFSET, RECORD_SIZE - TYPE_OFFSET);
+            if (record.getInt(CRC_OFFSET) != (int) crc.getValue()) {
+                log.warn("Journal record at offset {} is corrupt; discarding it and everything after", position);
+                break;
+            }
+            sequence = record.getLong(SEQUENCE_OFFSET);
+            String pool = new String(scratch, POOL_OFFSET, scratch[POOL_LENGTH_OFFSET], StandardCharsets.US_ASCII);
+            apply(type, pools.computeIfAbsent(pool, p -> new PoolState()), record.getLong(ROUND_OFFSET), record.getLong(ENTITY_OFFSET));
+            position += RECORD_SIZE;
+        }
+        // Clear any torn tail so the next scan stops at the same place
+        for (int offset = position; offset < mapped.capacity() && mapped.get(offset + TYPE_OFFSET) != 0; offset += RECORD_SIZE) {
+            mapped.put(offset + TYPE_OFFSET, (byte) 0);
+        }
+    }
+
+    private static void apply(byte type, PoolState state, long roundId, long entityId) {
+        if (type == DRAW) {
+            if (roundId != state.lastDrawnRound) {
+                state.lastDrawnRound = roundId;
+                if (state.openRound == roundId) {
+                    state.openRound = 0;
+                    state.registrations = 0;
+                }
+            }
+            state.lastResultId = entityId;
+        } else if (roundId > state.lastDrawnRound) {
+            if (roundId != state.openRound) {
+                state.openRound = roundId;
+                state.registrations = 0;
+            }
+            state.registrations++;
+        }
+    }
+
+    /**
+     * Rewrites the journal keeping only records that still describe current state: registrations
+     * of each pool's open round and the records of its last draw.
+     */
+    private void compact() throws IOException {
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        int kept = 0;
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer out = target.map(FileChannel.MapMode.READ_WRITE, 0, mapped.capacity());
+            for (int offset = 0; offset < position; offset += RECORD_SIZE) {
+                mapped.get(offset, scratch);
+                String pool = new String(scratch, POOL_OFFSET, scratch[POOL_LENGTH_OFFSET], StandardCharsets.US_ASCII);
+                PoolState state = pools.get(pool);
+                long roundId = record.getLong(ROUND_OFFSET);
+                boolean current = scratch[TYPE_OFFSET] == DRAW
+                        ? roundId == state.lastDrawnRound
+                        : roundId == state.openRound;
+                if (current) {
+                    out.put(kept, scratch);
+                    kept += RECORD_SIZE;
+                }
+            }
+            out.force();
+        }
+        int before = position;
+        channel.close();
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        map(Files.size(path));
+        position = kept;
+        log.info("Compacted draw journal from {} to {} records", before / RECORD_SIZE, kept / RECORD_SIZE);
+    }
+
+    // Compacts a full journal; doubles the mapping if live records still fill more than half of it
+    private void grow() {
+        try {
+            compact();
+            if (position > mapped.capacity() / 2) {
+                map(mapped.capacity() * 2L);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void map(long size) throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+}
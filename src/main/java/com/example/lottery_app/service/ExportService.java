@@ -0,0 +1,178 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.LotteryResult;
+import com.example.lottery_app.entity.Participant;
+import com.example.lottery_app.repository.LotteryResultRepository;
+import com.example.lottery_app.repository.ParticipantRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streams results and participants straight from a database cursor to the response. Each row is
+ * written and then detached, so memory use does not depend on the number of rows exported.
+ */
+@Service
+public class ExportService {
+
+    public enum Format {
+        CSV("text/csv"), NDJSON(MediaType.APPLICATION_NDJSON_VALUE);
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Format parse(String format) {
+            for (Format value : values()) {
+                if (value.name().equalsIgnoreCase(format)) {
+                    return value;
+                }
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown export format: " + format);
+        }
+    }
+
+    private static final List<String> RESULT_COLUMNS = List.of("id", "winnerName", "drawTime", "pool", "roundId");
+    private static final List<String> PARTICIPANT_COLUMNS = List.of("id", "name", "weight");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private LotteryResultRepository lotteryResultRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private LotteryRoundService lotteryRoundService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Writes every lottery result (of {@code pool}, or of all pools if null) in id order.
+     */
+    public void exportResults(String pool, Format format, OutputStream out) throws IOException {
+        if (pool != null) {
+            LotteryService.checkPoolName(pool);
+        }
+        export(() -> lotteryResultRepository.streamAllForExport(pool), format, out, RESULT_COLUMNS,
+                result -> Arrays.asList(result.getId(), result.getWinnerName(), result.getDrawTime(), result.getPool(), result.getRoundId()));
+    }
+
+    /**
+     * Writes the participants of the pool's current round in id order.
+     */
+    public void exportParticipants(String pool, Format format, OutputStream out) throws IOException {
+        LotteryService.checkPoolName(pool);
+        Optional<Long> roundId = lotteryRoundService.findCurrentRoundId(pool);
+        export(() -> roundId.map(participantRepository::streamByRoundId).orElseGet(Stream::empty), format, out, PARTICIPANT_COLUMNS,
+                participant -> Arrays.asList(participant.getId(), participant.getName(), participant.getWeight()));
+    }
+
+    private <T> void export(Supplier<Stream<T>> query, Format format, OutputStream out,
+                            List<String> columns, Function<T, List<Object>> csvRow) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<T> rows = query.get()) {
+                    if (format == Format.CSV) {
+                        writeCsvLine(writer, columns);
+                    }
+                    Iterator<T> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        T row = iterator.next();
+                        if (format == Format.NDJSON) {
+                            writer.write(objectMapper.writeValueAsString(row));
+                            writer.write('\n');
+                        } else {
+                            writeCsvLine(writer, csvRow.apply(row));
+                        }
+                        entityManager.detach(row);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value instanceof CharSequence text) {
+                writer.write(csvField(neutralizeFormula(text.toString())));
+            } else if (value != null) {
+                writer.write(csvField(value.toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    // Text starting like a formula is prefixed with ' so spreadsheets show it instead of evaluating it
+    private static String neutralizeFormula(String value) {
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.dto.HomePage;
+import com.example.lottery_app.dto.PostFacets;
+import com.example.lottery_app.dto.PostSummary;
+import com.example.lottery_app.entity.App;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+@Service
+public class HomeService {
+
+    private static final int RECENT_POSTS = 3;
+    private static final int FEATURED_APPS = 3;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private AppService appService;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor executor;
+
+    /**
+     * Fetches the homepage sections concurrently; each is served from memory or a cache when warm.
+     */
+    public HomePage getHomePage() {
+        CompletableFuture<List<PostSummary>> recentPosts = CompletableFuture.supplyAsync(() ->
+                blogService.getRecentPosts(RECENT_POSTS).stream().map(PostSummary::of).toList(), executor);
+        CompletableFuture<PostFacets> blogFacets = CompletableFuture.supplyAsync(() ->
+                blogService.getFacets(null, null, true), executor);
+        CompletableFuture<List<App>> featuredApps = CompletableFuture.supplyAsync(() ->
+                appService.getFeaturedApps().stream().limit(FEATURED_APPS).toList(), executor);
+        CompletableFuture<List<App>> activeApps = CompletableFuture.supplyAsync(appService::getAllActiveApps, executor);
+        try {
+            CompletableFuture.allOf(recentPosts, blogFacets, featuredApps, activeApps).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+
+        Map<String, Integer> appCategories = new TreeMap<>();
+        for (App app : activeApps.join()) {
+            if (app.getCategory() != null) {
+                appCategories.merge(app.getCategory(), 1, Integer::sum);
+            }
+        }
+        PostFacets facets = blogFacets.join();
+        return new HomePage(recentPosts.join(), featuredApps.join(), facets.categories(), appCategories,
+                facets.total(), activeApps.join().size());
+    }
+}
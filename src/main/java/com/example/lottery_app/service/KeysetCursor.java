@@ -0,0 +1,31 @@
+package com.example.lottery_app.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for newest-first keyset pages ordered by a timestamp and then the id.
+ */
+record KeysetCursor(LocalDateTime time, Long id) {
+
+    String encode() {
+        String position = time + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetCursor decode(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            if (position.length != 2) {
+                throw new IllegalArgumentException("Expected time and id");
+            }
+            return new KeysetCursor(LocalDateTime.parse(position[0]), Long.valueOf(position[1]));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+        }
+    }
+}
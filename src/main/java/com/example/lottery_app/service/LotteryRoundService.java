@@ -0,0 +1,120 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.LotteryRound;
+import com.example.lottery_app.repository.LotteryRoundRepository;
+import com.example.lottery_app.repository.ParticipantRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the open lottery round of each pool. A draw closes the round and opens the next one with two
+ * single-row writes; participants of closed rounds are removed later by a background purge.
+ */
+@Service
+public class LotteryRoundService {
+
+    private static final Logger log = LoggerFactory.getLogger(LotteryRoundService.class);
+
+    @Autowired
+    private LotteryRoundRepository lotteryRoundRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate newTransaction;
+
+    private final Map<String, Long> currentRounds = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Returns the pool's open round, or empty if the pool has never had one. Never creates a round,
+     * so reads and draws of an unknown pool leave nothing behind.
+     */
+    public Optional<Long> findCurrentRoundId(String pool) {
+        Long roundId = currentRounds.get(pool);
+        if (roundId != null) {
+            return Optional.of(roundId);
+        }
+        Optional<Long> found = lotteryRoundRepository.findFirstByPoolAndStatusOrderByIdDesc(pool, LotteryRound.OPEN)
+                .map(LotteryRound::getId);
+        // A rollover committed meanwhile has already put its successor, which must win
+        found.ifPresent(id -> currentRounds.putIfAbsent(pool, id));
+        return found;
+    }
+
+    /**
+     * Returns the pool's open round for a registration, opening the pool's first round in its own
+     * transaction so only committed rounds are ever cached.
+     */
+    public Long getOrOpenCurrentRoundId(String pool) {
+        Optional<Long> roundId = findCurrentRoundId(pool);
+        if (roundId.isPresent()) {
+            return roundId.get();
+        }
+        synchronized (this) {
+            return findCurrentRoundId(pool).orElseGet(() -> {
+                Long opened = newTransaction.execute(status -> lotteryRoundRepository.save(new LotteryRound(pool)).getId());
+                currentRounds.putIfAbsent(pool, opened);
+                return opened;
+            });
+        }
+    }
+
+    /**
+     * Closes the given round and opens its successor inside the caller's transaction.
+     * New registrations switch to the successor once the transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Long closeRound(String pool, Long roundId) {
+        if (lotteryRoundRepository.close(roundId, LocalDateTime.now()) == 0) {
+            throw new RuntimeException("Lottery round " + roundId + " is not open.");
+        }
+        Long nextRoundId = lotteryRoundRepository.save(new LotteryRound(pool)).getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                currentRounds.put(pool, nextRoundId);
+            }
+        });
+        return nextRoundId;
+    }
+
+    @Scheduled(fixedDelayString = "${lottery.round.purge-interval-ms:60000}")
+    public void purgeClosedRounds() {
+        for (Long roundId : lotteryRoundRepository.findIdsByStatus(LotteryRound.CLOSED)) {
+            Integer removed = transactionTemplate.execute(status -> {
+                int deleted = participantRepository.deleteAllByRoundIdInBulk(roundId);
+                lotteryRoundRepository.markPurged(roundId);
+                return deleted;
+            });
+            log.info("Purged {} participants of closed lottery round {}", removed, roundId);
+        }
+    }
+}
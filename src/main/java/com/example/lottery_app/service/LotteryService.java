@@ -1,52 +1,482 @@
 package com.example.lottery_app.service;
 
+import com.example.lottery_app.dto.ResultPage;
+import com.example.lottery_app.dto.ResultStats;
+import com.example.lottery_app.entity.DrawRequest;
 import com.example.lottery_app.entity.LotteryResult;
 import com.example.lottery_app.entity.Participant;
+import com.example.lottery_app.repository.DrawRequestRepository;
 import com.example.lottery_app.repository.LotteryResultRepository;
 import com.example.lottery_app.repository.ParticipantRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class LotteryService {
 
+    public static final String DEFAULT_POOL = "default";
+
+    public enum DrawMode {
+        UNIFORM, WEIGHTED;
+
+        public static DrawMode parse(String mode) {
+            for (DrawMode value : values()) {
+                if (value.name().equalsIgnoreCase(mode)) {
+                    return value;
+                }
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown draw mode: " + mode);
+        }
+    }
+
+    private static final Pattern POOL_NAME = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private static final int MAX_WINNERS_PER_DRAW = 10_000;
+
+    private static final int MAX_UNIFORM_PROBES = 64;
+
     @Autowired
     private ParticipantRepository participantRepository;
 
     @Autowired
     private LotteryResultRepository lotteryResultRepository;
 
+    @Autowired
+    private LotteryRoundService lotteryRoundService;
+
+    @Autowired
+    private PoolLocks poolLocks;
+
+    @Autowired
+    private DrawRequestRepository drawRequestRepository;
+
+    @Autowired
+    private ParticipantIndex participantIndex;
+
+    @Autowired
+    private DuplicateRegistrationFilter duplicateRegistrationFilter;
+
+    @Autowired
+    private RegistrationQueue registrationQueue;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ResultBroadcaster resultBroadcaster;
+
+    @Autowired
+    private ResultStatistics resultStatistics;
+
+    @Autowired
+    private DrawJournal drawJournal;
+
+    // Draws currently executing, by pool and mode; concurrent callers asking for the same draw join it
+    private final Map<String, CompletableFuture<LotteryResult>> inFlightDraws = new ConcurrentHashMap<>();
+
+    // Idempotent requests not yet recorded in draw_requests, by pool and key
+    private final Map<String, CompletableFuture<LotteryResult>> pendingRequests = new ConcurrentHashMap<>();
+
+    public static String checkPoolName(String pool) {
+        if (pool == null || !POOL_NAME.matcher(pool).matches()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid pool name: " + pool);
+        }
+        return pool;
+    }
+
+    public static void checkWeight(Participant participant) {
+        if (participant.getWeight() < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Participant weight must be at least 1.");
+        }
+    }
+
     public Participant addParticipant(Participant participant) {
-        return participantRepository.save(participant);
+        return addParticipant(DEFAULT_POOL, participant);
+    }
+
+    public Participant addParticipant(String pool, Participant participant) {
+        checkPoolName(pool);
+        checkWeight(participant);
+        // Registrations share the pool's read lock so they never straddle a round rollover
+        Lock lock = poolLocks.forPool(pool).readLock();
+        lock.lock();
+        try {
+            Long roundId = lotteryRoundService.getOrOpenCurrentRoundId(pool);
+            participant.setRoundId(roundId);
+            boolean filtered = duplicateRegistrationFilter.isEnabled();
+            if (filtered && !duplicateRegistrationFilter.tryRegister(pool, roundId, participant.getName())) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        participant.getName() + " is already registered in this round.");
+            }
+            try {
+                if (participantIndex.isEnabled()) {
+                    participantIndex.ensureLoaded(pool, roundId);
+                }
+                // With write-behind enabled this blocks until the entry's group commit
+                Participant saved = registrationQueue.isEnabled()
+                        ? registrationQueue.register(participant)
+                        : participantRepository.save(participant);
+                if (filtered) {
+                    duplicateRegistrationFilter.confirm(pool, roundId, participant.getName());
+                }
+                if (participantIndex.isEnabled()) {
+                    participantIndex.append(pool, roundId, saved.getId(), saved.getWeight());
+                }
+                drawJournal.recordRegistration(pool, roundId, saved.getId(), saved.getWeight());
+                return saved;
+            } catch (RuntimeException e) {
+                if (filtered) {
+                    duplicateRegistrationFilter.release(pool, roundId, participant.getName());
+                }
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
     public LotteryResult drawWinner() {
-        List<Participant> participants = participantRepository.findAll();
-        if (participants.isEmpty()) {
-            throw new RuntimeException("No participants to draw a winner.");
+        return drawWinner(DEFAULT_POOL, null, DrawMode.UNIFORM);
+    }
+
+    public LotteryResult drawWinner(String pool) {
+        return drawWinner(pool, null, DrawMode.UNIFORM);
+    }
+
+    /**
+     * Draws a winner for the pool. A request carrying an idempotency key returns the result
+     * it produced before instead of drawing again; retries racing the original join it. The key
+     * is stored in the draw's own transaction, so a committed draw is never left without its key.
+     * In {@link DrawMode#WEIGHTED} mode each participant wins with probability proportional to its weight.
+     */
+    public LotteryResult drawWinner(String pool, String idempotencyKey, DrawMode mode) {
+        checkPoolName(pool);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return singleFlightDraw(pool, mode);
+        }
+        if (idempotencyKey.length() > 255) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Idempotency key is too long.");
+        }
+
+        String requestKey = pool + ":" + idempotencyKey;
+        CompletableFuture<LotteryResult> request = new CompletableFuture<>();
+        CompletableFuture<LotteryResult> pending = pendingRequests.putIfAbsent(requestKey, request);
+        if (pending != null) {
+            return await(pending);
+        }
+        try {
+            LotteryResult result = findPreviousResult(requestKey).orElseGet(() -> drawUnderLock(pool, mode, requestKey));
+            request.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            request.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingRequests.remove(requestKey, request);
+        }
+    }
+
+    private Optional<LotteryResult> findPreviousResult(String requestKey) {
+        return drawRequestRepository.findById(requestKey)
+                .flatMap(drawRequest -> lotteryResultRepository.findById(drawRequest.getResultId()));
+    }
+
+    private LotteryResult singleFlightDraw(String pool, DrawMode mode) {
+        String flightKey = pool + ":" + mode;
+        CompletableFuture<LotteryResult> flight = new CompletableFuture<>();
+        CompletableFuture<LotteryResult> running = inFlightDraws.putIfAbsent(flightKey, flight);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            LotteryResult result = drawUnderLock(pool, mode, null);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightDraws.remove(flightKey, flight);
+        }
+    }
+
+    private static LotteryResult await(CompletableFuture<LotteryResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
+    }
 
-        Random random = new Random();
-        int randomIndex = random.nextInt(participants.size());
-        Participant winner = participants.get(randomIndex);
+    private LotteryResult drawUnderLock(String pool, DrawMode mode, String requestKey) {
+        // The write lock is held until the draw transaction has committed
+        Lock lock = poolLocks.forPool(pool).writeLock();
+        lock.lock();
+        try {
+            LotteryResult result = transactionTemplate.execute(status -> draw(pool, mode, requestKey));
+            participantIndex.evict(pool);
+            duplicateRegistrationFilter.evict(pool);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private LotteryResult draw(String pool, DrawMode mode, String requestKey) {
+        Long roundId = lotteryRoundService.findCurrentRoundId(pool)
+                .orElseThrow(() -> new RuntimeException("No participants to draw a winner."));
+        Participant winner = mode == DrawMode.WEIGHTED ? pickWeighted(pool, roundId) : pickUniform(pool, roundId);
 
-        LotteryResult lotteryResult = new LotteryResult(winner.getName(), LocalDateTime.now());
+        LotteryResult lotteryResult = new LotteryResult(winner.getName(), LocalDateTime.now(), pool, roundId);
         lotteryResultRepository.save(lotteryResult);
+        if (requestKey != null) {
+            drawRequestRepository.save(new DrawRequest(requestKey, lotteryResult.getId()));
+        }
+        resultBroadcaster.publishAfterCommit(List.of(lotteryResult));
+        resultStatistics.recordAfterCommit(List.of(lotteryResult));
+        drawJournal.recordDrawsAfterCommit(List.of(lotteryResult));
 
-        participantRepository.deleteAll(); // Clear participants after draw
+        lotteryRoundService.closeRound(pool, roundId); // Participants of the closed round are purged in the background
 
         return lotteryResult;
     }
 
+    /**
+     * Draws up to {@code count} distinct winners from the pool's current round in one pass,
+     * stores all results in one batch and closes the round. Fewer participants than
+     * {@code count} means everyone wins.
+     */
+    public List<LotteryResult> drawWinners(String pool, int count, DrawMode mode) {
+        checkPoolName(pool);
+        if (count < 1 || count > MAX_WINNERS_PER_DRAW) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Winner count must be between 1 and " + MAX_WINNERS_PER_DRAW + ".");
+        }
+        Lock lock = poolLocks.forPool(pool).writeLock();
+        lock.lock();
+        try {
+            List<LotteryResult> results = transactionTemplate.execute(status -> drawMany(pool, count, mode));
+            participantIndex.evict(pool);
+            duplicateRegistrationFilter.evict(pool);
+            return results;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<LotteryResult> drawMany(String pool, int count, DrawMode mode) {
+        Long roundId = lotteryRoundService.findCurrentRoundId(pool)
+                .orElseThrow(() -> new RuntimeException("No participants to draw a winner."));
+        long[] winnerIds = mode == DrawMode.WEIGHTED
+                ? sampleWeighted(pool, roundId, count)
+                : sampleUniform(pool, roundId, count);
+        if (winnerIds.length == 0) {
+            throw new RuntimeException("No participants to draw a winner.");
+        }
+
+        List<Long> ids = new ArrayList<>(winnerIds.length);
+        for (long id : winnerIds) {
+            ids.add(id);
+        }
+        Map<Long, Participant> winners = participantRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Participant::getId, Function.identity()));
+
+        LocalDateTime drawTime = LocalDateTime.now();
+        List<LotteryResult> results = new ArrayList<>(winnerIds.length);
+        for (long id : winnerIds) {
+            Participant winner = winners.get(id);
+            if (winner == null) {
+                throw new RuntimeException("Participant pool changed during the draw, please retry.");
+            }
+            results.add(new LotteryResult(winner.getName(), drawTime, pool, roundId));
+        }
+        lotteryResultRepository.saveAll(results);
+        resultBroadcaster.publishAfterCommit(results);
+        resultStatistics.recordAfterCommit(results);
+        drawJournal.recordDrawsAfterCommit(results);
+
+        lotteryRoundService.closeRound(pool, roundId);
+
+        return results;
+    }
+
+    private long[] sampleUniform(String pool, Long roundId, int count) {
+        if (participantIndex.isEnabled()) {
+            ParticipantIndex.RoundIds entry = participantIndex.ensureLoaded(pool, roundId);
+            return WinnerSampler.uniform(entry.ids(), entry.size(), count, ThreadLocalRandom.current());
+        }
+        long[] ids = new long[1024];
+        int size = 0;
+        try (Stream<Long> rows = participantRepository.streamIdsByRoundId(roundId)) {
+            for (Long id : (Iterable<Long>) rows::iterator) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                }
+                ids[size++] = id;
+            }
+        }
+        return WinnerSampler.uniform(ids, size, count, ThreadLocalRandom.current());
+    }
+
+    private long[] sampleWeighted(String pool, Long roundId, int count) {
+        WinnerSampler.WeightedReservoir reservoir = new WinnerSampler.WeightedReservoir(count, ThreadLocalRandom.current());
+        if (participantIndex.isEnabled()) {
+            ParticipantIndex.RoundIds entry = participantIndex.ensureLoaded(pool, roundId);
+            long[] ids = entry.ids();
+            int[] weights = entry.weights();
+            for (int i = 0; i < entry.size(); i++) {
+                reservoir.offer(ids[i], weights[i]);
+            }
+            return reservoir.winners();
+        }
+        try (Stream<Object[]> rows = participantRepository.streamIdsAndWeightsByRoundId(roundId)) {
+            rows.forEach(row -> reservoir.offer((Long) row[0], (Integer) row[1]));
+        }
+        return reservoir.winners();
+    }
+
+    private Participant pickUniform(String pool, Long roundId) {
+        if (participantIndex.isEnabled()) {
+            ParticipantIndex.RoundIds entry = participantIndex.ensureLoaded(pool, roundId);
+            if (entry.size() == 0) {
+                throw new RuntimeException("No participants to draw a winner.");
+            }
+            return findWinner(entry.idAt(ThreadLocalRandom.current().nextInt(entry.size())));
+        }
+
+        // Rejection sampling over the round's id range: every probe is one primary-key lookup,
+        // so a draw never scans the round however many entrants it holds
+        Participant lowest = participantRepository.findFirstByRoundIdOrderByRoundIdAscIdAsc(roundId)
+                .orElseThrow(() -> new RuntimeException("No participants to draw a winner."));
+        long low = lowest.getId();
+        long high = participantRepository.findFirstByRoundIdOrderByRoundIdDescIdDesc(roundId).map(Participant::getId).orElse(low);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int probe = 0; probe < MAX_UNIFORM_PROBES; probe++) {
+            Optional<Participant> hit = participantRepository.findById(random.nextLong(low, high + 1))
+                    .filter(participant -> roundId.equals(participant.getRoundId()));
+            if (hit.isPresent()) {
+                return hit.get();
+            }
+        }
+        // The round's ids are sparse (interleaved with other pools); seek from a random id instead,
+        // which slightly favours entrants that follow a gap
+        return participantRepository.findFirstByRoundIdAndIdGreaterThanEqualOrderByRoundIdAscIdAsc(roundId, random.nextLong(low, high + 1))
+                .orElse(lowest);
+    }
+
+    private Participant pickWeighted(String pool, Long roundId) {
+        AliasTable table = buildAliasTable(pool, roundId);
+        return findWinner(table.sample(ThreadLocalRandom.current()));
+    }
+
+    private Participant findWinner(long winnerId) {
+        return participantRepository.findById(winnerId)
+                .orElseThrow(() -> new RuntimeException("Participant pool changed during the draw, please retry."));
+    }
+
+    /**
+     * Streams the round's (id, weight) pairs into primitive arrays and builds the alias table.
+     * A draw closes its round, so the table is built once per round.
+     */
+    private AliasTable buildAliasTable(String pool, Long roundId) {
+        if (participantIndex.isEnabled()) {
+            ParticipantIndex.RoundIds entry = participantIndex.ensureLoaded(pool, roundId);
+            if (entry.size() == 0) {
+                throw new RuntimeException("No participants to draw a winner.");
+            }
+            return AliasTable.build(entry.ids(), entry.weights(), entry.size());
+        }
+        long[] ids = new long[1024];
+        int[] weights = new int[1024];
+        int size = 0;
+        try (Stream<Object[]> rows = participantRepository.streamIdsAndWeightsByRoundId(roundId)) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                    weights = Arrays.copyOf(weights, size * 2);
+                }
+                ids[size] = (Long) row[0];
+                weights[size] = (Integer) row[1];
+                size++;
+            }
+        }
+        if (size == 0) {
+            throw new RuntimeException("No participants to draw a winner.");
+        }
+        return AliasTable.build(ids, weights, size);
+    }
+
     public List<Participant> getAllParticipants() {
-        return participantRepository.findAll();
+        return getParticipants(DEFAULT_POOL);
+    }
+
+    public List<Participant> getParticipants(String pool) {
+        checkPoolName(pool);
+        return lotteryRoundService.findCurrentRoundId(pool)
+                .map(participantRepository::findByRoundId)
+                .orElseGet(List::of);
     }
 
     public List<LotteryResult> getAllLotteryResults() {
         return lotteryResultRepository.findAll();
     }
+
+    public List<LotteryResult> getLotteryResults(String pool) {
+        checkPoolName(pool);
+        return lotteryResultRepository.findByPoolOrderByDrawTimeDesc(pool);
+    }
+
+    /**
+     * Returns results drawn in [{@code from}, {@code to}), newest first, continuing after {@code cursor}.
+     * Null bounds are open; a null pool means every pool.
+     */
+    public ResultPage getLotteryResultPage(String pool, LocalDateTime from, LocalDateTime to, String cursor, int limit) {
+        if (pool != null) {
+            checkPoolName(pool);
+        }
+        LocalDateTime lower = from == null ? LocalDateTime.of(1970, 1, 1, 0, 0) : from;
+        LocalDateTime upper = to == null ? LocalDateTime.of(9999, 1, 1, 0, 0) : to;
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<LotteryResult> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = lotteryResultRepository.findPage(pool, lower, upper, page);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = lotteryResultRepository.findPageBefore(pool, lower, upper, position.time(), position.id(), page);
+        }
+        if (rows.size() <= limit) {
+            return new ResultPage(rows, null);
+        }
+        List<LotteryResult> items = new ArrayList<>(rows.subList(0, limit));
+        LotteryResult last = items.get(limit - 1);
+        return new ResultPage(items, new KeysetCursor(last.getDrawTime(), last.getId()).encode());
+    }
+
+    public ResultStats getResultStats(LocalDate from, LocalDate to, int topWinners) {
+        return resultStatistics.getStats(from == null ? LocalDate.MIN : from, to == null ? LocalDate.MAX : to, topWinners);
+    }
 }
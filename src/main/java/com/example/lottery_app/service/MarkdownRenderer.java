@@ -0,0 +1,83 @@
+package com.example.lottery_app.service;
+
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Renders post markdown to HTML once per distinct content. Raw HTML in the markdown is escaped
+ * and link targets are sanitized, so the output can be inserted into a page as-is. Results are
+ * cached by SHA-256 of the markdown in an LRU map capped by total characters.
+ */
+@Component
+public class MarkdownRenderer {
+
+    private final Parser parser = Parser.builder().build();
+
+    private final HtmlRenderer renderer = HtmlRenderer.builder()
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .build();
+
+    @Value("${blog.render.cache-max-chars:8000000}")
+    private long maxChars;
+
+    private final LinkedHashMap<String, String> cache = new LinkedHashMap<>(64, 0.75f, true);
+
+    private long cachedChars;
+
+    private long renders;
+
+    public String render(String markdown) {
+        if (markdown == null) {
+            return null;
+        }
+        String key = hash(markdown);
+        synchronized (this) {
+            String html = cache.get(key);
+            if (html != null) {
+                return html;
+            }
+        }
+        // Rendering happens outside the lock; two threads racing on new content both render it once
+        String html = renderer.render(parser.parse(markdown));
+        synchronized (this) {
+            renders++;
+            if (cache.putIfAbsent(key, html) == null) {
+                cachedChars += html.length();
+                evict();
+            }
+        }
+        return html;
+    }
+
+    public synchronized long getRenderCount() {
+        return renders;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, String>> eldest = cache.entrySet().iterator();
+        while (cachedChars > maxChars && eldest.hasNext()) {
+            cachedChars -= eldest.next().getValue().length();
+            eldest.remove();
+        }
+    }
+
+    private static String hash(String markdown) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(markdown.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.dto.ImportResult;
+import com.example.lottery_app.entity.Participant;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Streams participants out of a request body and persists them in fixed-size batches,
+ * each in its own transaction, so an import never holds more than one batch in memory.
+ */
+@Service
+public class ParticipantImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ParticipantImportService.class);
+
+    public enum Format {
+        JSON, NDJSON, CSV;
+
+        public static Format fromContentType(String contentType) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (MediaType.APPLICATION_NDJSON.includes(mediaType)) {
+                return NDJSON;
+            }
+            if (mediaType.getSubtype().equals("csv")) {
+                return CSV;
+            }
+            return JSON;
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private LotteryRoundService lotteryRoundService;
+
+    @Autowired
+    private PoolLocks poolLocks;
+
+    @Autowired
+    private ParticipantIndex participantIndex;
+
+    @Autowired
+    private DuplicateRegistrationFilter duplicateRegistrationFilter;
+
+    @Autowired
+    private DrawJournal drawJournal;
+
+    @Value("${lottery.import.batch-size:1000}")
+    private int batchSize;
+
+    public ImportResult importParticipants(String pool, InputStream body, Format format) throws IOException {
+        LotteryService.checkPoolName(pool);
+        try (ParticipantReader reader = openReader(body, format)) {
+            return importFrom(pool, reader);
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed participant data: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Imports participants produced in memory, e.g. by the synthetic data generator.
+     */
+    public ImportResult importParticipants(String pool, Iterator<Participant> participants) {
+        LotteryService.checkPoolName(pool);
+        ParticipantReader reader = new ParticipantReader() {
+            @Override
+            public Participant next() {
+                return participants.hasNext() ? participants.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        try {
+            return importFrom(pool, reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ImportResult importFrom(String pool, ParticipantReader reader) throws IOException {
+        long start = System.nanoTime();
+        long read = 0;
+        long rows = 0;
+        List<Participant> batch = new ArrayList<>(batchSize);
+
+        Participant participant;
+        while ((participant = reader.next()) != null) {
+            participant.setId(null);
+            LotteryService.checkWeight(participant);
+            batch.add(participant);
+            read++;
+            if (batch.size() >= batchSize) {
+                rows += writeBatch(pool, batch);
+            }
+        }
+        rows += writeBatch(pool, batch);
+
+        ImportResult result = ImportResult.of(rows, read - rows, System.nanoTime() - start);
+        log.info("Imported {} participants into pool {} in {} ms ({} rows/s, {} duplicates skipped)",
+                result.rows(), pool, result.elapsedMillis(), result.rowsPerSecond(), result.duplicates());
+        return result;
+    }
+
+    /**
+     * Writes the batch, skipping names already registered in the round, and returns the rows written.
+     */
+    private int writeBatch(String pool, List<Participant> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        // Each batch is a registration like any other and must not straddle a draw
+        Lock lock = poolLocks.forPool(pool).readLock();
+        lock.lock();
+        try {
+            Long roundId = lotteryRoundService.getOrOpenCurrentRoundId(pool);
+            List<Participant> accepted = batch;
+            if (duplicateRegistrationFilter.isEnabled()) {
+                accepted = new ArrayList<>(batch.size());
+                for (Participant participant : batch) {
+                    if (duplicateRegistrationFilter.tryRegister(pool, roundId, participant.getName())) {
+                        accepted.add(participant);
+                    }
+                }
+            }
+            if (participantIndex.isEnabled()) {
+                participantIndex.ensureLoaded(pool, roundId);
+            }
+            persist(pool, roundId, accepted);
+            if (duplicateRegistrationFilter.isEnabled()) {
+                for (Participant participant : accepted) {
+                    duplicateRegistrationFilter.confirm(pool, roundId, participant.getName());
+                }
+            }
+            if (participantIndex.isEnabled()) {
+                for (Participant participant : accepted) {
+                    participantIndex.append(pool, roundId, participant.getId(), participant.getWeight());
+                }
+            }
+            if (drawJournal.isEnabled()) {
+                for (Participant participant : accepted) {
+                    drawJournal.recordRegistration(pool, roundId, participant.getId(), participant.getWeight());
+                }
+            }
+            return accepted.size();
+        } finally {
+            lock.unlock();
+            batch.clear();
+        }
+    }
+
+    private void persist(String pool, Long roundId, List<Participant> participants) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Participant participant : participants) {
+                    participant.setRoundId(roundId);
+                    entityManager.persist(participant);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            if (duplicateRegistrationFilter.isEnabled()) {
+                for (Participant participant : participants) {
+                    duplicateRegistrationFilter.release(pool, roundId, participant.getName());
+                }
+            }
+            throw e;
+        }
+    }
+
+    private ParticipantReader openReader(InputStream body, Format format) throws IOException {
+        return switch (format) {
+            case JSON -> new JsonArrayReader(objectMapper, body);
+            case NDJSON -> new NdjsonReader(objectMapper, body);
+            case CSV -> new CsvReader(body);
+        };
+    }
+
+    private interface ParticipantReader extends AutoCloseable {
+        Participant next() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static final class JsonArrayReader implements ParticipantReader {
+        private final ObjectMapper objectMapper;
+        private final JsonParser parser;
+
+        JsonArrayReader(ObjectMapper objectMapper, InputStream body) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = objectMapper.getFactory().createParser(body);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Expected a JSON array of participants.");
+            }
+        }
+
+        @Override
+        public Participant next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            return objectMapper.readValue(parser, Participant.class);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static final class NdjsonReader implements ParticipantReader {
+        private final ObjectMapper objectMapper;
+        private final BufferedReader lines;
+
+        NdjsonReader(ObjectMapper objectMapper, InputStream body) {
+            this.objectMapper = objectMapper;
+            this.lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Participant next() throws IOException {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (!line.isBlank()) {
+                    return objectMapper.readValue(line, Participant.class);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            lines.close();
+        }
+    }
+
+    /**
+     * Reads CSV with an optional header row naming "name" and "weight" columns.
+     * Without a header the first column is the name and the second, if present, the weight.
+     */
+    private static final class CsvReader implements ParticipantReader {
+        private final BufferedReader lines;
+        private int nameColumn = 0;
+        private int weightColumn = 1;
+        private boolean firstLine = true;
+
+        CsvReader(InputStream body) {
+            this.lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Participant next() throws IOException {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> columns = splitCsv(line);
+                if (firstLine) {
+                    firstLine = false;
+                    List<String> names = columns.stream().map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+                    int header = names.indexOf("name");
+                    if (header >= 0) {
+                        nameColumn = header;
+                        weightColumn = names.indexOf("weight");
+                        continue;
+                    }
+                }
+                if (nameColumn < columns.size()) {
+                    Participant participant = new Participant(columns.get(nameColumn));
+                    if (weightColumn >= 0 && weightColumn < columns.size() && !columns.get(weightColumn).isEmpty()) {
+                        participant.setWeight(parseWeight(columns.get(weightColumn)));
+                    }
+                    return participant;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            lines.close();
+        }
+
+        private static int parseWeight(String value) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid participant weight: " + value);
+            }
+        }
+
+        private static List<String> splitCsv(String line) {
+            List<String> columns = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    columns.add(current.toString().trim());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            columns.add(current.toString().trim());
+            return columns;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.LotteryRound;
+import com.example.lottery_app.repository.LotteryRoundRepository;
+import com.example.lottery_app.repository.ParticipantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Optional in-process copy of each pool's current round as primitive arrays: 8 bytes per
+ * entrant for the id, plus 4 for the weight once any entrant has a weight other than 1.
+ * Draws index into the arrays and only fetch the winners' rows.
+ *
+ * <p>Writers call {@link #ensureLoaded} before saving a participant and {@link #append} after
+ * the save has committed, both under the pool's read lock; draws read under the write lock.
+ */
+@Component
+public class ParticipantIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ParticipantIndex.class);
+
+    @Value("${lottery.index.enabled:false}")
+    private boolean enabled;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private LotteryRoundRepository lotteryRoundRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<String, RoundIds> rounds = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the index of the pool's round, loading it from the database if it is missing
+     * or belongs to an earlier round.
+     */
+    public RoundIds ensureLoaded(String pool, Long roundId) {
+        RoundIds entry = rounds.get(pool);
+        if (entry != null && entry.roundId == roundId) {
+            return entry;
+        }
+        // Read outside the map; if another caller installed the round meanwhile, its entry wins
+        RoundIds loaded = load(roundId);
+        return rounds.compute(pool, (name, existing) ->
+                existing != null && existing.roundId == roundId ? existing : loaded);
+    }
+
+    public void append(String pool, Long roundId, long id, int weight) {
+        RoundIds entry = rounds.get(pool);
+        if (entry != null && entry.roundId == roundId) {
+            entry.add(id, weight);
+        }
+    }
+
+    public void evict(String pool) {
+        rounds.remove(pool);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        long entrants = 0;
+        for (LotteryRound round : lotteryRoundRepository.findByStatus(LotteryRound.OPEN)) {
+            entrants += ensureLoaded(round.getPool(), round.getId()).size();
+        }
+        log.info("Rebuilt participant index with {} entrants in {} ms", entrants, System.currentTimeMillis() - start);
+    }
+
+    private RoundIds load(Long roundId) {
+        RoundIds entry = new RoundIds(roundId);
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = participantRepository.streamIdsAndWeightsByRoundId(roundId)) {
+                rows.forEach(row -> entry.add((Long) row[0], (Integer) row[1]));
+            }
+        });
+        return entry;
+    }
+
+    public static final class RoundIds {
+        private final long roundId;
+        private long[] ids = new long[1024];
+        private int[] weights; // null while every weight is 1
+        private int size;
+
+        RoundIds(long roundId) {
+            this.roundId = roundId;
+        }
+
+        synchronized void add(long id, int weight) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                if (weights != null) {
+                    weights = Arrays.copyOf(weights, size * 2);
+                }
+            }
+            if (weight != 1 && weights == null) {
+                weights = new int[ids.length];
+                Arrays.fill(weights, 0, size, 1);
+            }
+            ids[size] = id;
+            if (weights != null) {
+                weights[size] = weight;
+            }
+            size++;
+        }
+
+        public synchronized int size() {
+            return size;
+        }
+
+        public synchronized long idAt(int index) {
+            return ids[index];
+        }
+
+        /**
+         * Backing id array, valid up to {@link #size()}. Callers must not modify it, and
+         * {@link #add} may replace it with a larger copy, so it is only stable under the pool's write lock.
+         */
+        public synchronized long[] ids() {
+            return ids;
+        }
+
+        /**
+         * Weights aligned with {@link #ids()}, materialized as all ones if no weight was set.
+         */
+        public synchronized int[] weights() {
+            if (weights == null) {
+                int[] ones = new int[size];
+                Arrays.fill(ones, 1);
+                return ones;
+            }
+            return weights;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.lottery_app.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Striped read/write locks keyed by pool name. Registrations share the read lock of their
+ * pool's stripe, a draw takes the write lock, and pools on different stripes never contend.
+ */
+@Component
+public class PoolLocks {
+
+    private static final int STRIPES = 64;
+
+    private final ReadWriteLock[] locks = new ReadWriteLock[STRIPES];
+
+    public PoolLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    public ReadWriteLock forPool(String pool) {
+        int hash = pool.hashCode();
+        hash ^= (hash >>> 16);
+        return locks[hash & (STRIPES - 1)];
+    }
+}
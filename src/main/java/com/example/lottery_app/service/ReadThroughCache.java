@@ -0,0 +1,97 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.dto.CacheStats;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of loaded values, each key with its own TTL. Concurrent misses on one key
+ * wait for a single load. Evicting a key that is still loading drops the in-flight result, so a
+ * load racing with a write is never retained.
+ */
+public class ReadThroughCache {
+
+    private static final class Entry {
+        final CompletableFuture<Object> value = new CompletableFuture<>();
+        volatile long expiresAt = Long.MAX_VALUE; // set once loaded
+    }
+
+    private final int maxEntries;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    public ReadThroughCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Duration ttl, Supplier<T> loader) {
+        Entry entry;
+        boolean load = false;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && entry.expiresAt <= System.nanoTime()) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new Entry();
+                entries.put(key, entry);
+                trim();
+                misses++;
+                load = true;
+            } else {
+                hits++;
+            }
+        }
+        if (load) {
+            try {
+                T value = loader.get();
+                entry.expiresAt = System.nanoTime() + ttl.toNanos();
+                entry.value.complete(value);
+                return value;
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    entries.remove(key, entry);
+                }
+                entry.value.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return (T) entry.value.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    public synchronized void evict(String key) {
+        if (entries.remove(key) != null) {
+            evictions++;
+        }
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(entries.size(), hits, misses, evictions);
+    }
+
+    private void trim() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions++;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.BlogPost;
+import com.example.lottery_app.repository.BlogPostRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The newest published posts, newest first, kept in memory for the homepage. Saves and deletes
+ * patch the list in place; it is only re-read, with a LIMIT query, when a removal leaves it short.
+ */
+@Component
+public class RecentPostsFeed {
+
+    private static final Comparator<BlogPost> NEWEST_FIRST = Comparator
+            .comparing(BlogPost::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(BlogPost::getId, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Value("${blog.feed.size:20}")
+    private int size;
+
+    private volatile List<BlogPost> posts; // immutable snapshot, null until loaded
+
+    public int capacity() {
+        return size;
+    }
+
+    public List<BlogPost> getRecentPosts(int limit) {
+        List<BlogPost> snapshot = posts;
+        if (snapshot == null) {
+            snapshot = reload();
+        }
+        return snapshot.subList(0, Math.min(limit, snapshot.size()));
+    }
+
+    public synchronized void postSaved(BlogPost post) {
+        if (posts == null) {
+            return;
+        }
+        List<BlogPost> updated = new ArrayList<>(posts);
+        boolean wasListed = updated.removeIf(existing -> Objects.equals(existing.getId(), post.getId()));
+        if (post.isPublished()) {
+            updated.add(post);
+            updated.sort(NEWEST_FIRST);
+            if (updated.size() > size) {
+                updated = updated.subList(0, size);
+            }
+        } else if (wasListed && posts.size() == size) {
+            // An older post may now belong in the feed
+            posts = null;
+            return;
+        }
+        posts = List.copyOf(updated);
+    }
+
+    public synchronized void postDeleted(Long id) {
+        if (posts == null) {
+            return;
+        }
+        List<BlogPost> updated = new ArrayList<>(posts);
+        if (updated.removeIf(existing -> Objects.equals(existing.getId(), id))) {
+            posts = posts.size() == size ? null : List.copyOf(updated);
+        }
+    }
+
+    private synchronized List<BlogPost> reload() {
+        if (posts == null) {
+            posts = List.copyOf(blogPostRepository.findByPublishedTrueOrderByCreatedAtDescIdDesc(PageRequest.of(0, size)));
+        }
+        return posts;
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.Participant;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Optional write-behind path for registrations. Callers enqueue into a bounded queue and wait;
+ * a single writer thread persists whatever has accumulated, up to a batch size or a short
+ * delay, in one transaction and then acknowledges every caller in the batch.
+ *
+ * <p>Callers wait for their acknowledgement while holding the pool's read lock, so by the time
+ * a draw acquires the write lock every acknowledged entrant of that pool has been committed.
+ */
+@Component
+public class RegistrationQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrationQueue.class);
+
+    private static final long ACK_TIMEOUT_SECONDS = 30;
+
+    @Value("${lottery.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${lottery.write-behind.capacity:1000}")
+    private int capacity;
+
+    @Value("${lottery.write-behind.max-batch:500}")
+    private int maxBatch;
+
+    @Value("${lottery.write-behind.flush-interval-ms:5}")
+    private long flushIntervalMs;
+
+    @Value("${lottery.write-behind.offer-timeout-ms:100}")
+    private long offerTimeoutMs;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private BlockingQueue<PendingRegistration> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    // Whoever flips "claimed" first decides the entry: the writer to persist it, a timed-out caller to cancel it
+    private record PendingRegistration(Participant participant, CompletableFuture<Participant> acknowledged,
+                                       AtomicBoolean claimed) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(capacity);
+        running = true;
+        writer = new Thread(this::runWriter, "registration-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(ACK_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * Enqueues the participant and blocks until it has been committed. A full queue is
+     * reported as 503 so callers back off instead of piling onto the connection pool.
+     * A caller that gives up waiting cancels its entry, so a 503 always means nothing was stored;
+     * if the writer has already picked the entry up, the caller waits for that commit instead.
+     */
+    public Participant register(Participant participant) {
+        participant.setId(null);
+        PendingRegistration pending = new PendingRegistration(participant, new CompletableFuture<>(), new AtomicBoolean());
+        try {
+            if (!running || !queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Registration queue is full, please retry.");
+            }
+            return pending.acknowledged().get(ACK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return awaitUnlessCancelled(pending, "Registration was interrupted.");
+        } catch (TimeoutException e) {
+            return awaitUnlessCancelled(pending, "Registration was not acknowledged in time.");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private Participant awaitUnlessCancelled(PendingRegistration pending, String reason) {
+        if (pending.claimed().compareAndSet(false, true)) {
+            queue.remove(pending);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, reason);
+        }
+        // The writer owns the entry now and always completes it, committed or failed
+        try {
+            return pending.acknowledged().join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(Exception e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new RuntimeException(e.getCause());
+    }
+
+    private void runWriter() {
+        List<PendingRegistration> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingRegistration first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < maxBatch) {
+                    queue.drainTo(batch, maxBatch - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatch || remaining <= 0) {
+                        break;
+                    }
+                    PendingRegistration next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Shutdown requested; keep looping until the queue is drained
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingRegistration> batch) {
+        batch.removeIf(pending -> !pending.claimed().compareAndSet(false, true));
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (PendingRegistration pending : batch) {
+                    entityManager.persist(pending.participant());
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            log.warn("Group commit of {} registrations failed", batch.size(), e);
+            batch.forEach(pending -> pending.acknowledged().completeExceptionally(e));
+            return;
+        }
+        batch.forEach(pending -> pending.acknowledged().complete(pending.participant()));
+    }
+}
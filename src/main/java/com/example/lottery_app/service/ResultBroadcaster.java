@@ -0,0 +1,233 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.LotteryResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed lottery results to SSE subscribers. Publishing only offers each result to
+ * every subscriber's bounded queue, so the draw thread never waits on a client; a small sender
+ * pool drains the queues. A subscriber whose queue overflows is disconnected.
+ * <p>
+ * Event ids are assigned in commit order (result ids are not: they are taken at persist time and
+ * concurrent draws of different pools commit in either order). The latest events are kept in a
+ * bounded ring, from which a client reconnecting with {@code Last-Event-ID} is replayed. An id the
+ * ring no longer covers, e.g. from before a restart, gets a {@code reset} event instead, telling
+ * the client to reload the results over REST.
+ */
+@Component
+public class ResultBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultBroadcaster.class);
+
+    @Value("${lottery.results.sse.threads:4}")
+    private int threads;
+
+    @Value("${lottery.results.sse.queue-size:256}")
+    private int queueSize;
+
+    @Value("${lottery.results.sse.replay-size:1024}")
+    private int replaySize;
+
+    @Value("${lottery.results.sse.timeout-ms:300000}")
+    private long timeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Guarded by itself, as is lastPublishedId; publishing and subscribing serialize on it
+    private final ArrayDeque<Event> recent = new ArrayDeque<>();
+
+    // Seeded from the clock so ids stay increasing across restarts
+    private long lastPublishedId = System.currentTimeMillis() * 1000;
+
+    private ExecutorService senders;
+
+    private record Event(long id, LotteryResult result) {
+    }
+
+    private static final class Subscriber {
+        final String pool; // null for all pools
+        final SseEmitter emitter;
+        final BlockingQueue<Event> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean overflowed;
+        List<Event> replay; // null once sent; only touched by the draining thread after subscribe
+        boolean reset;
+
+        Subscriber(String pool, SseEmitter emitter, int queueSize) {
+            this.pool = pool;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        boolean wants(LotteryResult result) {
+            return pool == null || pool.equals(result.getPool());
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger count = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "result-sse-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * Opens a stream of results for {@code pool} (all pools if null). With {@code lastEventId}
+     * the events published after it are replayed first.
+     */
+    public SseEmitter subscribe(String pool, String lastEventId) {
+        Long resumeAfter = null;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                resumeAfter = Long.valueOf(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                // Not one of our ids; treated as out of range below
+                resumeAfter = -1L;
+            }
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(pool, emitter, queueSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        synchronized (recent) {
+            // Registered under the lock: every event is either in the replay or in the queue, never both
+            if (resumeAfter != null) {
+                long oldest = recent.isEmpty() ? lastPublishedId + 1 : recent.peekFirst().id();
+                if (resumeAfter >= oldest - 1 && resumeAfter <= lastPublishedId) {
+                    subscriber.replay = new ArrayList<>();
+                    for (Event event : recent) {
+                        if (event.id() > resumeAfter && subscriber.wants(event.result())) {
+                            subscriber.replay.add(event);
+                        }
+                    }
+                } else {
+                    subscriber.reset = true;
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        if (subscriber.replay != null || subscriber.reset) {
+            schedule(subscriber);
+        }
+        return emitter;
+    }
+
+    /**
+     * Must be called inside the transaction that stores the results; they are published once it commits.
+     */
+    public void publishAfterCommit(List<LotteryResult> results) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(results);
+            }
+        });
+    }
+
+    private void publish(List<LotteryResult> results) {
+        List<Subscriber> scheduled = new ArrayList<>();
+        synchronized (recent) {
+            for (LotteryResult result : results) {
+                Event event = new Event(++lastPublishedId, result);
+                recent.addLast(event);
+                if (recent.size() > replaySize) {
+                    recent.removeFirst();
+                }
+                for (Subscriber subscriber : subscribers) {
+                    if (!subscriber.wants(result) || subscriber.overflowed) {
+                        continue;
+                    }
+                    if (!subscriber.queue.offer(event)) {
+                        subscriber.overflowed = true;
+                    }
+                    scheduled.add(subscriber);
+                }
+            }
+        }
+        scheduled.forEach(this::schedule);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            if (subscriber.reset) {
+                subscriber.emitter.send(SseEmitter.event().name("reset").data(""));
+                subscriber.reset = false;
+            }
+            if (subscriber.replay != null) {
+                for (Event event : subscriber.replay) {
+                    send(subscriber, event);
+                }
+                subscriber.replay = null;
+            }
+            if (subscriber.overflowed) {
+                // Too slow to keep up; it resumes from its last event id on reconnect
+                subscribers.remove(subscriber);
+                subscriber.emitter.complete();
+                return;
+            }
+            Event event;
+            while ((event = subscriber.queue.poll()) != null) {
+                send(subscriber, event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping result subscriber: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.queue.isEmpty() || subscriber.overflowed) {
+            schedule(subscriber); // published while the queue was being drained
+        }
+    }
+
+    private void send(Subscriber subscriber, Event event) throws IOException {
+        subscriber.emitter.send(SseEmitter.event()
+                .id(String.valueOf(event.id()))
+                .name("result")
+                .data(event.result()));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.dto.ResultStats;
+import com.example.lottery_app.entity.LotteryResult;
+import com.example.lottery_app.repository.LotteryResultRepository;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Draws per day and wins per winner, kept in memory. The history is scanned once at startup and
+ * every result committed afterwards is added as it commits, so requests never aggregate over the
+ * whole table. Both paths skip ids already counted: result ids come from a pooled sequence and
+ * are not committed in id order, so no single id separates the scanned results from the rest.
+ */
+@Component
+public class ResultStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultStatistics.class);
+
+    // Most wins first, ties by name, so the top winners are a prefix of the ranking
+    private static final Comparator<ResultStats.WinnerCount> RANKING =
+            Comparator.comparingLong(ResultStats.WinnerCount::wins).reversed()
+                    .thenComparing(ResultStats.WinnerCount::winnerName);
+
+    @Autowired
+    private LotteryResultRepository lotteryResultRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final TreeMap<LocalDate, Long> drawsPerDay = new TreeMap<>();
+
+    private final Map<String, Long> winsPerWinner = new HashMap<>();
+
+    private final TreeSet<ResultStats.WinnerCount> ranking = new TreeSet<>(RANKING);
+
+    // Sequence ids are dense, so this stays a few bitmap containers per million results
+    private final Roaring64Bitmap counted = new Roaring64Bitmap();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = lotteryResultRepository.streamForStatistics()) {
+                rows.forEach(row -> count((Long) row[0], ((LocalDateTime) row[1]).toLocalDate(), (String) row[2]));
+            }
+        });
+        log.info("Aggregated {} lottery results in {} ms", totalDraws(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Must be called inside the transaction that stores the results; they are counted once it commits.
+     */
+    public void recordAfterCommit(List<LotteryResult> results) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (LotteryResult result : results) {
+                    count(result.getId(), result.getDrawTime().toLocalDate(), result.getWinnerName());
+                }
+            }
+        });
+    }
+
+    private synchronized void count(long id, LocalDate day, String winnerName) {
+        if (counted.contains(id)) {
+            return;
+        }
+        counted.addLong(id);
+        drawsPerDay.merge(day, 1L, Long::sum);
+        if (winnerName == null) {
+            return; // a nameless winner counts as a draw but has nothing to rank
+        }
+        Long previous = winsPerWinner.get(winnerName);
+        if (previous != null) {
+            ranking.remove(new ResultStats.WinnerCount(winnerName, previous));
+        }
+        long wins = previous == null ? 1 : previous + 1;
+        winsPerWinner.put(winnerName, wins);
+        ranking.add(new ResultStats.WinnerCount(winnerName, wins));
+    }
+
+    private synchronized long totalDraws() {
+        return counted.getLongCardinality();
+    }
+
+    /**
+     * Draws per day and their total within {@code from}..{@code to} (which must not be reversed),
+     * plus the all-time top winners.
+     */
+    public synchronized ResultStats getStats(LocalDate from, LocalDate to, int topWinners) {
+        TreeMap<LocalDate, Long> days = new TreeMap<>(drawsPerDay.subMap(from, true, to, true));
+        long draws = 0;
+        for (long count : days.values()) {
+            draws += count;
+        }
+        List<ResultStats.WinnerCount> top = ranking.stream().limit(topWinners).toList();
+        return new ResultStats(draws, days, top);
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.dto.ImportResult;
+import com.example.lottery_app.entity.Participant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Bulk-loads synthetic posts, apps and participants for scale testing. Only active under the
+ * {@code datagen} profile; volumes come from {@code application-datagen.properties}.
+ * Runs before the in-memory indexes are built at startup, so they pick up the generated rows.
+ */
+@Service
+@Profile("datagen")
+@Order(0)
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String INSERT_POST = "INSERT INTO blog_posts "
+            + "(title, summary, content, category, author, published, tags, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_APP = "INSERT INTO apps "
+            + "(name, description, app_url, github_url, category, technology, featured, status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String[] TOPICS = {
+            "Spring Boot", "Java", "并发编程", "数据库", "缓存", "微服务", "前端", "性能优化", "算法", "分布式系统",
+            "容器", "消息队列", "搜索引擎", "安全", "测试", "架构设计", "Linux", "网络", "JVM", "云原生"
+    };
+    private static final String[] TITLE_PATTERNS = {
+            "%s 入门指南", "深入理解 %s", "%s 实践心得", "%s 常见问题与解决方案", "从零开始学习 %s",
+            "%s 的设计与实现", "我在项目中使用 %s 的经验", "%s 性能调优笔记", "%s 最佳实践总结", "聊聊 %s"
+    };
+    private static final String[] SENTENCES = {
+            "在实际项目中，我们经常会遇到各种各样的问题。",
+            "这篇文章记录了我在学习过程中的一些思考和总结。",
+            "合理的设计能够显著降低系统的复杂度。",
+            "性能问题往往隐藏在最不起眼的细节之中。",
+            "先测量，再优化，是性能调优的基本原则。",
+            "良好的代码结构让后续的维护工作变得轻松许多。",
+            "社区提供了丰富的资料，值得花时间深入阅读。",
+            "下面通过一个具体的例子来说明这个问题。",
+            "在高并发场景下，锁的粒度直接影响吞吐量。",
+            "缓存可以减轻数据库的压力，但也带来了一致性问题。",
+            "自动化测试是持续交付的重要保障。",
+            "希望这些经验能够对大家有所帮助。"
+    };
+    private static final String[] BULLETS = {
+            "明确需求和边界", "编写可读的代码", "关注监控指标", "控制依赖的数量", "及时重构",
+            "记录关键决策", "保持接口稳定", "重视错误处理", "做好容量规划", "定期回顾总结"
+    };
+    private static final String[] POST_CATEGORIES = {
+            "技术分享", "日常分享", "前端技术", "后端开发", "读书笔记", "项目实践", "工具推荐", "随笔"
+    };
+    private static final String[] TAGS = {
+            "Java", "Spring Boot", "后端开发", "前端", "Vue.js", "React", "数据库", "MySQL", "Redis", "缓存",
+            "并发", "JVM", "性能优化", "微服务", "Docker", "Kubernetes", "Linux", "算法", "设计模式", "测试",
+            "博客", "分享", "技术", "读书", "工具", "架构", "安全", "网络", "云原生", "消息队列"
+    };
+    private static final String[] AUTHORS = {"博主", "小明", "张三", "李四", "王五", "赵六"};
+
+    private static final String[] APP_NOUNS = {
+            "博客系统", "工具集合", "文档生成器", "可视化平台", "任务管理器", "笔记应用", "监控面板", "聊天室",
+            "图床服务", "短链接服务", "天气助手", "记账本", "代码片段库", "抽奖系统", "相册", "书签管理器"
+    };
+    private static final String[] APP_ADJECTIVES = {"轻量", "在线", "智能", "极简", "开源", "个人", "团队", "高性能"};
+    private static final String[] APP_CATEGORIES = {"Web应用", "工具类", "开发工具", "数据分析", "效率工具", "娱乐"};
+    private static final String[] TECHNOLOGIES = {"Spring Boot", "Vue.js", "React", "Node.js", "Go", "Python", "Angular"};
+    private static final String[] APP_STATUSES = {"active", "active", "active", "active", "maintenance", "deprecated"};
+
+    private static final String[] SURNAMES = {"王", "李", "张", "刘", "陈", "杨", "黄", "赵", "吴", "周", "徐", "孙", "马", "朱", "胡", "郭"};
+    private static final String[] GIVEN_NAMES = {"伟", "芳", "娜", "敏", "静", "磊", "洋", "勇", "艳", "杰", "娟", "涛", "明", "超", "秀英", "晓东"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ParticipantImportService participantImportService;
+
+    @Value("${datagen.posts:100000}")
+    private int posts;
+
+    @Value("${datagen.apps:10000}")
+    private int apps;
+
+    @Value("${datagen.participants:1000000}")
+    private long participants;
+
+    @Value("${datagen.pools:1}")
+    private int pools;
+
+    @Value("${datagen.threads:4}")
+    private int threads;
+
+    @Value("${datagen.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${datagen.seed:42}")
+    private long seed;
+
+    @Override
+    public void run(String... args) throws Exception {
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "datagen-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            report("blog posts", insertRows(executor, INSERT_POST, posts, this::postRow));
+            report("apps", insertRows(executor, INSERT_APP, apps, this::appRow));
+            report("participants", importParticipants(executor));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void report(String what, ImportResult result) {
+        log.info("Generated {} {} in {} ms ({} rows/s)", result.rows(), what, result.elapsedMillis(), result.rowsPerSecond());
+    }
+
+    /**
+     * Splits the rows into batches, each generated and inserted in its own transaction by a worker thread.
+     * Each batch seeds its own random source, so a given seed always produces the same rows.
+     */
+    private ImportResult insertRows(ExecutorService executor, String sql, int count,
+                                    BiFunction<SplittableRandom, Integer, Object[]> row) throws Exception {
+        long start = System.nanoTime();
+        List<Future<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < count; from += batchSize) {
+            int first = from;
+            int size = Math.min(batchSize, count - from);
+            batches.add(executor.submit(() -> {
+                SplittableRandom random = new SplittableRandom(seed * 31 + first);
+                List<Object[]> rows = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    rows.add(row.apply(random, first + i));
+                }
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+                return size;
+            }));
+        }
+        return ImportResult.of(sum(batches), 0, System.nanoTime() - start);
+    }
+
+    /**
+     * Spreads participants over the pools and feeds each pool's share through the regular
+     * import path from several threads, so rounds, the duplicate filter and indexes stay consistent.
+     */
+    private ImportResult importParticipants(ExecutorService executor) throws Exception {
+        long start = System.nanoTime();
+        List<Future<Integer>> slices = new ArrayList<>();
+        long perPool = participants / pools;
+        long perSlice = Math.max(1, (perPool + threads - 1) / threads);
+        for (int p = 0; p < pools; p++) {
+            String pool = p == 0 ? LotteryService.DEFAULT_POOL : "pool-" + (p + 1);
+            long poolCount = p == pools - 1 ? participants - perPool * (pools - 1) : perPool;
+            long poolFirst = perPool * p;
+            for (long from = 0; from < poolCount; from += perSlice) {
+                long first = poolFirst + from;
+                long size = Math.min(perSlice, poolCount - from);
+                slices.add(executor.submit(() ->
+                        (int) participantImportService.importParticipants(pool, participantsFrom(first, size)).rows()));
+            }
+        }
+        return ImportResult.of(sum(slices), 0, System.nanoTime() - start);
+    }
+
+    private static long sum(List<Future<Integer>> futures) throws InterruptedException, ExecutionException {
+        long rows = 0;
+        for (Future<Integer> future : futures) {
+            rows += future.get();
+        }
+        return rows;
+    }
+
+    private Object[] postRow(SplittableRandom random, int index) {
+        String topic = pick(random, TOPICS);
+        String title = String.format(pick(random, TITLE_PATTERNS), topic) + " #" + (index + 1);
+        String summary = "本文介绍" + topic + "相关的内容。" + pick(random, SENTENCES);
+
+        StringBuilder content = new StringBuilder(1024);
+        content.append("# ").append(title).append("\n\n");
+        int sections = 2 + random.nextInt(3);
+        for (int s = 1; s <= sections; s++) {
+            content.append("## 第").append(s).append("部分\n\n");
+            int sentences = 3 + random.nextInt(5);
+            for (int i = 0; i < sentences; i++) {
+                content.append(pick(random, SENTENCES));
+            }
+            content.append("\n\n");
+            if (random.nextBoolean()) {
+                for (int i = 0; i < 3; i++) {
+                    content.append("- ").append(pick(random, BULLETS)).append('\n');
+                }
+                content.append('\n');
+            }
+        }
+
+        StringBuilder tags = new StringBuilder(topic);
+        int tagCount = 1 + random.nextInt(4);
+        for (int i = 0; i < tagCount; i++) {
+            tags.append(',').append(pick(random, TAGS));
+        }
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusMinutes(random.nextInt(3 * 365 * 24 * 60)));
+        boolean published = random.nextInt(10) != 0;
+        return new Object[]{title, summary, content.toString(), pick(random, POST_CATEGORIES), pick(random, AUTHORS),
+                published, tags.toString(), createdAt, createdAt};
+    }
+
+    private Object[] appRow(SplittableRandom random, int index) {
+        String name = pick(random, APP_ADJECTIVES) + pick(random, APP_NOUNS) + " " + (index + 1);
+        String technology = pick(random, TECHNOLOGIES);
+        String description = "基于" + technology + "开发的" + name + "。" + pick(random, SENTENCES);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusMinutes(random.nextInt(3 * 365 * 24 * 60)));
+        return new Object[]{name, description, "#", "#", pick(random, APP_CATEGORIES), technology,
+                random.nextInt(20) == 0, pick(random, APP_STATUSES), createdAt, createdAt};
+    }
+
+    /**
+     * Participants with unique names (the sequence number is part of the name) and mostly unit weights.
+     */
+    private Iterator<Participant> participantsFrom(long first, long count) {
+        SplittableRandom random = new SplittableRandom(seed * 31 + first);
+        return new Iterator<>() {
+            private long next = first;
+
+            @Override
+            public boolean hasNext() {
+                return next < first + count;
+            }
+
+            @Override
+            public Participant next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String name = pick(random, SURNAMES) + pick(random, GIVEN_NAMES) + "-" + (next++ + 1);
+                int weight = random.nextInt(10) == 0 ? 2 + random.nextInt(9) : 1;
+                return new Participant(name, weight);
+            }
+        };
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.lottery_app.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Selection of k distinct winners in a single pass over primitive id arrays.
+ */
+public final class WinnerSampler {
+
+    private WinnerSampler() {
+    }
+
+    /**
+     * Partial Fisher-Yates shuffle over a virtual copy of {@code ids}: slots displaced by a swap are
+     * tracked in a map, so the first k draws form a uniform sample without replacement in O(k) time
+     * while {@code ids} itself, often the participant index's live array, is left untouched.
+     */
+    public static long[] uniform(long[] ids, int size, int k, RandomGenerator random) {
+        int count = Math.min(k, size);
+        long[] winners = new long[count];
+        Map<Integer, Long> displaced = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(size - i);
+            winners[i] = displaced.getOrDefault(j, ids[j]);
+            displaced.put(j, displaced.getOrDefault(i, ids[i]));
+        }
+        return winners;
+    }
+
+    /**
+     * Weighted sampling without replacement (Efraimidis-Spirakis). Each entry gets the key
+     * log(u) / weight and the k largest keys win; a size-k min-heap keeps the pass O(n log k).
+     */
+    public static final class WeightedReservoir {
+        private final double[] keys;
+        private final long[] ids;
+        private final RandomGenerator random;
+        private int size;
+
+        public WeightedReservoir(int k, RandomGenerator random) {
+            this.keys = new double[k];
+            this.ids = new long[k];
+            this.random = random;
+        }
+
+        public void offer(long id, int weight) {
+            double key = Math.log(1.0 - random.nextDouble()) / weight;
+            if (size < keys.length) {
+                keys[size] = key;
+                ids[size] = id;
+                siftUp(size++);
+            } else if (key > keys[0]) {
+                keys[0] = key;
+                ids[0] = id;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Returns the sampled ids, highest key (first drawn) first.
+         */
+        public long[] winners() {
+            int remaining = size;
+            long[] winners = new long[remaining];
+            while (remaining > 0) {
+                winners[--remaining] = ids[0];
+                keys[0] = keys[remaining];
+                ids[0] = ids[remaining];
+                size = remaining;
+                siftDown(0);
+            }
+            return winners;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (keys[parent] <= keys[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= size) {
+                    return;
+                }
+                int smallest = left + 1 < size && keys[left + 1] < keys[left] ? left + 1 : left;
+                if (keys[index] <= keys[smallest]) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            double key = keys[a];
+            keys[a] = keys[b];
+            keys[b] = key;
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+        }
+    }
+}
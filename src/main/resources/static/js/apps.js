@@ -5,9 +5,6 @@ let currentView = 'grid';
 
 document.addEventListener('DOMContentLoaded', function() {
     loadApps();
-    loadFeaturedApps();
-    loadCategories();
-    loadStats();
     setupEventListeners();
 });
 
@@ -42,118 +39,81 @@ async function loadApps() {
         allApps = await response.json();
         filteredApps = [...allApps];
         displayApps();
+
+        // Featured apps, categories and stats all come from the same list
+        const featuredApps = allApps.filter(app => app.featured);
+        displayFeaturedApps(featuredApps);
+        displayCategories(allApps);
+        displayStats(allApps, featuredApps);
     } catch (error) {
         console.error('Error loading apps:', error);
         showNoApps('加载应用失败，请稍后重试。');
     }
 }
 
-async function loadFeaturedApps() {
-    try {
-        const response = await fetch('/apps/api/apps/featured');
-        if (!response.ok) {
-            throw new Error('Failed to fetch featured apps');
+function displayCategories(apps) {
+    const categories = [...new Set(apps.map(app => app.category).filter(cat => cat))];
+
+    // Update category tabs
+    const categoryTabs = document.getElementById('category-tabs');
+    if (categoryTabs) {
+        // Keep the "全部" tab and add new categories
+        const allTab = categoryTabs.querySelector('[data-category=""]');
+        categoryTabs.innerHTML = '';
+        if (allTab) {
+            categoryTabs.appendChild(allTab);
+        } else {
+            const allTabElement = document.createElement('button');
+            allTabElement.className = 'category-tab active';
+            allTabElement.setAttribute('data-category', '');
+            allTabElement.textContent = '全部';
+            categoryTabs.appendChild(allTabElement);
         }
         
-        const featuredApps = await response.json();
-        displayFeaturedApps(featuredApps);
-    } catch (error) {
-        console.error('Error loading featured apps:', error);
-        const featuredSection = document.getElementById('featured-section');
-        if (featuredApps.length === 0 && featuredSection) {
-            featuredSection.style.display = 'none';
-        }
+        categories.forEach(category => {
+            const tab = document.createElement('button');
+            tab.className = 'category-tab';
+            tab.setAttribute('data-category', category);
+            tab.textContent = category;
+            categoryTabs.appendChild(tab);
+        });
     }
-}
 
-async function loadCategories() {
-    try {
-        const response = await fetch('/apps/api/apps');
-        if (!response.ok) {
-            throw new Error('Failed to fetch apps');
+    // Update sidebar categories
+    const sidebarCategoryList = document.getElementById('sidebar-category-list');
+    if (sidebarCategoryList) {
+        if (categories.length === 0) {
+            sidebarCategoryList.innerHTML = '<p class="text-muted">暂无分类</p>';
+            return;
         }
         
-        const apps = await response.json();
-        const categories = [...new Set(apps.map(app => app.category).filter(cat => cat))];
-        
-        // Update category tabs
-        const categoryTabs = document.getElementById('category-tabs');
-        if (categoryTabs) {
-            // Keep the "全部" tab and add new categories
-            const allTab = categoryTabs.querySelector('[data-category=""]');
-            categoryTabs.innerHTML = '';
-            if (allTab) {
-                categoryTabs.appendChild(allTab);
-            } else {
-                const allTabElement = document.createElement('button');
-                allTabElement.className = 'category-tab active';
-                allTabElement.setAttribute('data-category', '');
-                allTabElement.textContent = '全部';
-                categoryTabs.appendChild(allTabElement);
-            }
-            
-            categories.forEach(category => {
-                const tab = document.createElement('button');
-                tab.className = 'category-tab';
-                tab.setAttribute('data-category', category);
-                tab.textContent = category;
-                categoryTabs.appendChild(tab);
-            });
-        }
-
-        // Update sidebar categories
-        const sidebarCategoryList = document.getElementById('sidebar-category-list');
-        if (sidebarCategoryList) {
-            if (categories.length === 0) {
-                sidebarCategoryList.innerHTML = '<p class="text-muted">暂无分类</p>';
-                return;
-            }
-            
-            sidebarCategoryList.innerHTML = categories.map(category => {
-                const count = apps.filter(app => app.category === category).length;
-                return `
-                    <div class="category-item" onclick="filterByCategory('${category}')">
-                        <span>${category}</span>
-                        <span class="category-count">${count}</span>
-                    </div>
-                `;
-            }).join('');
-        }
-    } catch (error) {
-        console.error('Error loading categories:', error);
+        sidebarCategoryList.innerHTML = categories.map(category => {
+            const count = apps.filter(app => app.category === category).length;
+            return `
+                <div class="category-item" onclick="filterByCategory('${category}')">
+                    <span>${category}</span>
+                    <span class="category-count">${count}</span>
+                </div>
+            `;
+        }).join('');
     }
 }
 
-async function loadStats() {
-    try {
-        const [appsResponse, featuredResponse] = await Promise.all([
-            fetch('/apps/api/apps'),
-            fetch('/apps/api/apps/featured')
-        ]);
-        
-        if (appsResponse.ok) {
-            const apps = await appsResponse.json();
-            const totalAppsEl = document.getElementById('total-apps');
-            if (totalAppsEl) {
-                totalAppsEl.textContent = apps.length;
-            }
+function displayStats(apps, featuredApps) {
+    const totalAppsEl = document.getElementById('total-apps');
+    if (totalAppsEl) {
+        totalAppsEl.textContent = apps.length;
+    }
 
-            const categories = [...new Set(apps.map(app => app.category).filter(cat => cat))];
-            const categoriesCountEl = document.getElementById('categories-count');
-            if (categoriesCountEl) {
-                categoriesCountEl.textContent = categories.length;
-            }
-        }
-        
-        if (featuredResponse.ok) {
-            const featuredApps = await featuredResponse.json();
-            const featuredCountEl = document.getElementById('featured-apps-count');
-            if (featuredCountEl) {
-                featuredCountEl.textContent = featuredApps.length;
-            }
-        }
-    } catch (error) {
-        console.error('Error loading stats:', error);
+    const categories = [...new Set(apps.map(app => app.category).filter(cat => cat))];
+    const categoriesCountEl = document.getElementById('categories-count');
+    if (categoriesCountEl) {
+        categoriesCountEl.textContent = categories.length;
+    }
+
+    const featuredCountEl = document.getElementById('featured-apps-count');
+    if (featuredCountEl) {
+        featuredCountEl.textContent = featuredApps.length;
     }
 }
 
@@ -1,8 +1,9 @@
 // Blog page functionality
-let allPosts = [];
-let filteredPosts = [];
-let currentPage = 1;
 const postsPerPage = 5;
+let currentPage = 1;
+let currentCategory = '';
+let pageCursors = [null];   // cursor that starts each page, index = page - 1
+let searchResults = null;   // ranked search hits, paged locally while a query is active
 
 document.addEventListener('DOMContentLoaded', function() {
     loadBlogPosts();
@@ -33,14 +34,19 @@ function setupEventListeners() {
 
 async function loadBlogPosts() {
     try {
-        const response = await fetch('/blog/api/posts');
+        const params = new URLSearchParams({ limit: postsPerPage });
+        const cursor = pageCursors[currentPage - 1];
+        if (cursor) params.set('cursor', cursor);
+        if (currentCategory) params.set('category', currentCategory);
+
+        const response = await fetch(`/blog/api/posts/summaries?${params}`);
         if (!response.ok) {
             throw new Error('Failed to fetch posts');
         }
         
-        allPosts = await response.json();
-        filteredPosts = [...allPosts];
-        displayPosts();
+        const page = await response.json();
+        pageCursors[currentPage] = page.nextCursor;
+        displayPosts(page.items, currentPage > 1, page.nextCursor != null);
     } catch (error) {
         console.error('Error loading blog posts:', error);
         showNoPosts('加载文章失败，请稍后重试。');
@@ -49,13 +55,13 @@ async function loadBlogPosts() {
 
 async function loadCategories() {
     try {
-        const response = await fetch('/blog/api/posts');
+        const response = await fetch('/blog/api/posts/facets');
         if (!response.ok) {
-            throw new Error('Failed to fetch posts');
+            throw new Error('Failed to fetch categories');
         }
         
-        const posts = await response.json();
-        const categories = [...new Set(posts.map(post => post.category).filter(cat => cat))];
+        const facets = await response.json();
+        const categories = Object.keys(facets.categories);
         
         // Update category filter
         const categoryFilter = document.getElementById('category-filter');
@@ -78,7 +84,7 @@ async function loadCategories() {
             }
             
             categoryList.innerHTML = categories.map(category => {
-                const count = posts.filter(post => post.category === category).length;
+                const count = facets.categories[category];
                 return `
                     <div class="category-item" onclick="filterByCategory('${category}')">
                         <span>${category}</span>
@@ -94,13 +100,12 @@ async function loadCategories() {
 
 async function loadRecentPostsSidebar() {
     try {
-        const response = await fetch('/blog/api/posts');
+        const response = await fetch('/blog/api/posts/recent?limit=5');
         if (!response.ok) {
             throw new Error('Failed to fetch posts');
         }
         
-        const posts = await response.json();
-        const recentPosts = posts.slice(0, 5);
+        const recentPosts = await response.json();
         
         const recentPostsSidebar = document.getElementById('recent-posts-sidebar');
         if (recentPostsSidebar) {
@@ -124,26 +129,31 @@ async function loadRecentPostsSidebar() {
     }
 }
 
-function displayPosts() {
+function displayPosts(posts, hasPrev, hasNext) {
     const postsContainer = document.getElementById('posts-container');
     if (!postsContainer) return;
 
-    if (filteredPosts.length === 0) {
+    if (posts.length === 0) {
         showNoPosts('没有找到符合条件的文章。');
         return;
     }
 
-    // Calculate pagination
-    const totalPages = Math.ceil(filteredPosts.length / postsPerPage);
-    const startIndex = (currentPage - 1) * postsPerPage;
-    const endIndex = startIndex + postsPerPage;
-    const currentPosts = filteredPosts.slice(startIndex, endIndex);
-
     // Display posts
-    postsContainer.innerHTML = currentPosts.map(post => createBlogPostCard(post)).join('');
+    postsContainer.innerHTML = posts.map(post => createBlogPostCard(post)).join('');
 
     // Update pagination
-    updatePagination(totalPages);
+    updatePagination(hasPrev, hasNext);
+}
+
+function displaySearchPage() {
+    const startIndex = (currentPage - 1) * postsPerPage;
+    const endIndex = startIndex + postsPerPage;
+    displayPosts(searchResults.slice(startIndex, endIndex), currentPage > 1, endIndex < searchResults.length);
+}
+
+function resetPaging() {
+    currentPage = 1;
+    pageCursors = [null];
 }
 
 function createBlogPostCard(post) {
@@ -177,35 +187,34 @@ function createBlogPostCard(post) {
     `;
 }
 
-function handleSearch(event) {
-    const query = event.target.value.toLowerCase().trim();
+async function handleSearch(event) {
+    const query = event.target.value.trim();
+    resetPaging();
     
     if (!query) {
-        filteredPosts = [...allPosts];
-    } else {
-        filteredPosts = allPosts.filter(post => 
-            post.title.toLowerCase().includes(query) ||
-            (post.summary && post.summary.toLowerCase().includes(query)) ||
-            (post.content && post.content.toLowerCase().includes(query)) ||
-            (post.tags && post.tags.toLowerCase().includes(query))
-        );
+        searchResults = null;
+        loadBlogPosts();
+        return;
     }
-    
-    currentPage = 1;
-    displayPosts();
+
+    try {
+        const response = await fetch(`/blog/api/posts/search?query=${encodeURIComponent(query)}`);
+        if (!response.ok) {
+            throw new Error('Failed to search posts');
+        }
+        searchResults = await response.json();
+    } catch (error) {
+        console.error('Error searching posts:', error);
+        searchResults = [];
+    }
+    displaySearchPage();
 }
 
 function handleCategoryFilter(event) {
-    const selectedCategory = event.target.value;
-    
-    if (!selectedCategory) {
-        filteredPosts = [...allPosts];
-    } else {
-        filteredPosts = allPosts.filter(post => post.category === selectedCategory);
-    }
-    
-    currentPage = 1;
-    displayPosts();
+    currentCategory = event.target.value;
+    searchResults = null;
+    resetPaging();
+    loadBlogPosts();
 }
 
 function filterByCategory(category) {
@@ -217,12 +226,18 @@ function filterByCategory(category) {
 }
 
 function changePage(direction) {
-    const totalPages = Math.ceil(filteredPosts.length / postsPerPage);
     const newPage = currentPage + direction;
+    const lastPage = searchResults
+        ? Math.ceil(searchResults.length / postsPerPage)
+        : (pageCursors[currentPage] ? currentPage + 1 : currentPage);
     
-    if (newPage >= 1 && newPage <= totalPages) {
+    if (newPage >= 1 && newPage <= lastPage) {
         currentPage = newPage;
-        displayPosts();
+        if (searchResults) {
+            displaySearchPage();
+        } else {
+            loadBlogPosts();
+        }
         
         // Scroll to top of posts
         const postsContainer = document.getElementById('posts-container');
@@ -232,13 +247,13 @@ function changePage(direction) {
     }
 }
 
-function updatePagination(totalPages) {
+function updatePagination(hasPrev, hasNext) {
     const pagination = document.getElementById('pagination');
     const prevBtn = document.getElementById('prev-btn');
     const nextBtn = document.getElementById('next-btn');
     const paginationInfo = document.getElementById('pagination-info');
     
-    if (totalPages <= 1) {
+    if (!hasPrev && !hasNext) {
         if (pagination) pagination.style.display = 'none';
         return;
     }
@@ -246,15 +261,15 @@ function updatePagination(totalPages) {
     if (pagination) pagination.style.display = 'flex';
     
     if (prevBtn) {
-        prevBtn.disabled = currentPage === 1;
+        prevBtn.disabled = !hasPrev;
     }
     
     if (nextBtn) {
-        nextBtn.disabled = currentPage === totalPages;
+        nextBtn.disabled = !hasNext;
     }
     
     if (paginationInfo) {
-        paginationInfo.textContent = `第 ${currentPage} 页，共 ${totalPages} 页`;
+        paginationInfo.textContent = `第 ${currentPage} 页`;
     }
 }
 
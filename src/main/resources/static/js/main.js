@@ -17,123 +17,81 @@ document.addEventListener('DOMContentLoaded', function() {
         });
     });
 
-    // Load recent posts
-    loadRecentPosts();
-    
-    // Load featured apps
-    loadFeaturedApps();
-    
-    // Load stats
-    loadStats();
+    // Load homepage sections (one request)
+    loadHomePage();
 });
 
-// Load recent blog posts
-async function loadRecentPosts() {
+// Load recent posts, featured apps and stats from the aggregated endpoint
+async function loadHomePage() {
+    const hasHomeSections = ['recent-posts', 'featured-apps', 'blog-count', 'app-count']
+        .some(id => document.getElementById(id));
+    if (!hasHomeSections) return;
+
     try {
-        const response = await fetch('/blog/api/posts');
+        const response = await fetch('/api/home');
         if (!response.ok) {
-            throw new Error('Failed to fetch posts');
+            throw new Error('Failed to fetch homepage');
         }
         
-        const posts = await response.json();
-        const recentPosts = posts.slice(0, 3);
-        
-        const postsContainer = document.getElementById('recent-posts');
-        if (postsContainer) {
-            if (recentPosts.length === 0) {
-                postsContainer.innerHTML = `
-                    <div class="no-content">
-                        <i class="fas fa-pen-alt"></i>
-                        <p>暂无博客文章</p>
-                        <p class="text-muted">即将发布精彩内容，敬请期待！</p>
-                    </div>
-                `;
-                return;
-            }
-            
-            postsContainer.innerHTML = recentPosts.map(post => createPostCard(post)).join('');
-        }
+        const home = await response.json();
+        displayRecentPosts(home.recentPosts);
+        displayHomeFeaturedApps(home.featuredApps);
+        displayStats(home);
     } catch (error) {
-        console.error('Error loading recent posts:', error);
-        const postsContainer = document.getElementById('recent-posts');
-        if (postsContainer) {
-            postsContainer.innerHTML = `
-                <div class="no-content">
-                    <i class="fas fa-pen-alt"></i>
-                    <p>暂无博客文章</p>
-                    <p class="text-muted">即将发布精彩内容，敬请期待！</p>
-                </div>
-            `;
-        }
+        console.error('Error loading homepage:', error);
+        displayRecentPosts([]);
+        displayHomeFeaturedApps([]);
     }
 }
 
-// Load featured apps
-async function loadFeaturedApps() {
-    try {
-        const response = await fetch('/apps/api/apps/featured');
-        if (!response.ok) {
-            throw new Error('Failed to fetch apps');
-        }
-        
-        const apps = await response.json();
-        const featuredApps = apps.slice(0, 3);
-        
-        const appsContainer = document.getElementById('featured-apps');
-        if (appsContainer) {
-            if (featuredApps.length === 0) {
-                appsContainer.innerHTML = `
-                    <div class="no-content">
-                        <i class="fas fa-rocket"></i>
-                        <p>暂无精选应用</p>
-                        <p class="text-muted">正在开发中，敬请期待！</p>
-                    </div>
-                `;
-                return;
-            }
-            
-            appsContainer.innerHTML = featuredApps.map(app => createAppCard(app)).join('');
-        }
-    } catch (error) {
-        console.error('Error loading featured apps:', error);
-        const appsContainer = document.getElementById('featured-apps');
-        if (appsContainer) {
-            appsContainer.innerHTML = `
-                <div class="no-content">
-                    <i class="fas fa-rocket"></i>
-                    <p>暂无精选应用</p>
-                    <p class="text-muted">正在开发中，敬请期待！</p>
-                </div>
-            `;
-        }
+// Render recent blog posts
+function displayRecentPosts(recentPosts) {
+    const postsContainer = document.getElementById('recent-posts');
+    if (!postsContainer) return;
+
+    if (recentPosts.length === 0) {
+        postsContainer.innerHTML = `
+            <div class="no-content">
+                <i class="fas fa-pen-alt"></i>
+                <p>暂无博客文章</p>
+                <p class="text-muted">即将发布精彩内容，敬请期待！</p>
+            </div>
+        `;
+        return;
     }
+    
+    postsContainer.innerHTML = recentPosts.map(post => createPostCard(post)).join('');
 }
 
-// Load statistics
-async function loadStats() {
-    try {
-        const [postsResponse, appsResponse] = await Promise.all([
-            fetch('/blog/api/posts'),
-            fetch('/apps/api/apps')
-        ]);
-        
-        if (postsResponse.ok) {
-            const posts = await postsResponse.json();
-            const blogCountEl = document.getElementById('blog-count');
-            if (blogCountEl) {
-                blogCountEl.textContent = posts.length;
-            }
-        }
-        
-        if (appsResponse.ok) {
-            const apps = await appsResponse.json();
-            const appCountEl = document.getElementById('app-count');
-            if (appCountEl) {
-                appCountEl.textContent = apps.length;
-            }
-        }
-    } catch (error) {
-        console.error('Error loading stats:', error);
+// Render featured apps
+function displayHomeFeaturedApps(featuredApps) {
+    const appsContainer = document.getElementById('featured-apps');
+    if (!appsContainer) return;
+
+    if (featuredApps.length === 0) {
+        appsContainer.innerHTML = `
+            <div class="no-content">
+                <i class="fas fa-rocket"></i>
+                <p>暂无精选应用</p>
+                <p class="text-muted">正在开发中，敬请期待！</p>
+            </div>
+        `;
+        return;
+    }
+    
+    appsContainer.innerHTML = featuredApps.map(app => createAppCard(app)).join('');
+}
+
+// Render statistics
+function displayStats(home) {
+    const blogCountEl = document.getElementById('blog-count');
+    if (blogCountEl) {
+        blogCountEl.textContent = home.postCount;
+    }
+
+    const appCountEl = document.getElementById('app-count');
+    if (appCountEl) {
+        appCountEl.textContent = home.appCount;
     }
 }
 
@@ -0,0 +1,44 @@
+package com.example.lottery_app.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class AliasTableTests {
+
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    @Test
+    void samplesInProportionToWeight() {
+        long[] ids = {100, 200, 300, 400, 0};
+        int[] weights = {1, 2, 3, 10, 0};
+        AliasTable table = AliasTable.build(ids, weights, 4);
+        int[] hits = new int[4];
+        int trials = 200_000;
+        for (int i = 0; i < trials; i++) {
+            hits[table.sampleIndex(random)]++;
+        }
+
+        assertThat(table.size()).isEqualTo(4);
+        for (int i = 0; i < hits.length; i++) {
+            assertThat(hits[i] / (double) trials).isCloseTo(weights[i] / 16.0, within(0.01));
+        }
+    }
+
+    @Test
+    void sampleReturnsTheIdAtTheSampledPosition() {
+        AliasTable table = AliasTable.build(new long[] {42}, new int[] {5}, 1);
+
+        assertThat(table.sample(random)).isEqualTo(42);
+    }
+
+    @Test
+    void rejectsAnEmptyTable() {
+        assertThatThrownBy(() -> AliasTable.build(new long[0], new int[0], 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
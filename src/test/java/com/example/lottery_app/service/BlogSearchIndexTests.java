@@ -0,0 +1,96 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.BlogPost;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlogSearchIndexTests {
+
+    private final BlogSearchIndex index = new BlogSearchIndex();
+
+    @Test
+    void tokenizesWordsLowerCasedAndCjkAsCharactersPlusBigrams() {
+        assertThat(BlogSearchIndex.tokenize("Spring Boot 开发实践"))
+                .containsExactly("spring", "boot", "开", "发", "实", "践", "开发", "发实", "实践");
+    }
+
+    @Test
+    void splitsCjkRunsAtLatinAndPunctuation() {
+        assertThat(BlogSearchIndex.tokenize("学习Java，性能")).containsExactly("学", "习", "学习", "java", "性", "能", "性能");
+    }
+
+    @Test
+    void queryKeepsOnlyBigramsOfCjkRuns() {
+        assertThat(BlogSearchIndex.tokenizeQuery("开发实践")).containsExactly("开发", "发实", "实践");
+        assertThat(BlogSearchIndex.tokenizeQuery("缓存 的 JVM")).containsExactly("缓存", "的", "jvm");
+    }
+
+    @Test
+    void matchesPostsContainingEveryTerm() {
+        index.update(post(1, "Spring 缓存", "Redis 缓存实践"));
+        index.update(post(2, "Spring 事务", "数据库事务"));
+        index.update(post(3, "缓存一致性", "没有框架"));
+
+        assertThat(index.search("spring", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("spring 缓存", 10)).containsExactly(1L);
+        assertThat(index.search("缓存", 10)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("spring 不存在", 10)).isEmpty();
+    }
+
+    @Test
+    void cjkQueryRespectsCharacterOrder() {
+        index.update(post(1, "实践开发", ""));
+        index.update(post(2, "开发实践", ""));
+
+        assertThat(index.search("开发实践", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void ranksTitleHitsFirstAndAppliesLimit() {
+        index.update(post(1, "其他", "性能 在正文里"));
+        index.update(post(2, "性能优化", "正文"));
+        index.update(post(3, "无关", "无关"));
+
+        assertThat(index.search("性能", 10)).containsExactly(2L, 1L);
+        assertThat(index.search("性能", 1)).containsExactly(2L);
+    }
+
+    @Test
+    void updateReplacesTermsAndUnpublishOrDeleteRemovesPost() {
+        index.update(post(1, "旧标题", "java"));
+        index.update(post(1, "新标题", "kotlin"));
+
+        assertThat(index.search("旧标题", 10)).isEmpty();
+        assertThat(index.search("java", 10)).isEmpty();
+        assertThat(index.search("新标题 kotlin", 10)).containsExactly(1L);
+
+        BlogPost unpublished = post(1, "新标题", "kotlin");
+        unpublished.setPublished(false);
+        index.update(unpublished);
+        assertThat(index.search("kotlin", 10)).isEmpty();
+
+        index.update(post(2, "保留", "kotlin"));
+        index.update(post(3, "删除", "kotlin"));
+        index.delete(3L);
+        assertThat(index.search("kotlin", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void intersectsLongPostingLists() {
+        for (long id = 1; id <= 2000; id++) {
+            index.update(post(id, id % 2 == 0 ? "even" : "odd", id % 3 == 0 ? "three" : "other"));
+        }
+        List<Long> hits = index.search("even three", 1000);
+        assertThat(hits).hasSize(333).allMatch(id -> id % 6 == 0);
+    }
+
+    private static BlogPost post(long id, String title, String content) {
+        BlogPost post = new BlogPost(title, null, content, "技术分享", "博主");
+        post.setId(id);
+        post.setPublished(true);
+        return post;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.LotteryResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DrawJournalTests {
+
+    private static final int RECORD_SIZE = 128;
+
+    @TempDir
+    Path dir;
+
+    private DrawJournal journal;
+
+    @AfterEach
+    void closeJournal() throws IOException {
+        journal.close();
+    }
+
+    @Test
+    void replayRestoresLastDrawAndOpenRound() throws IOException {
+        journal = open();
+        register("main", 1, 3);
+        draw("main", 1, 10L);
+        register("main", 2, 2);
+        register("side", 7, 1);
+        journal.close();
+
+        journal = open();
+
+        assertThat(records()).isEqualTo(7);
+        assertThat(state("main")).containsExactly(1L, 10L, 2L, 2L);
+        assertThat(state("side")).containsExactly(0L, 0L, 7L, 1L);
+    }
+
+    @Test
+    void replayStopsAtATornRecordAndAppendsOverIt() throws IOException {
+        journal = open();
+        register("main", 1, 4);
+        journal.close();
+        // A crash halfway through the last record leaves its type but not its checksum
+        try (FileChannel file = FileChannel.open(dir.resolve("journal.bin"), StandardOpenOption.WRITE)) {
+            file.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 0}), 3L * RECORD_SIZE);
+        }
+
+        journal = open();
+        assertThat(records()).isEqualTo(3);
+        assertThat(state("main")).containsExactly(0L, 0L, 1L, 3L);
+
+        register("main", 1, 1);
+        journal.close();
+        journal = open();
+
+        assertThat(records()).isEqualTo(4);
+        assertThat(state("main")).containsExactly(0L, 0L, 1L, 4L);
+    }
+
+    private DrawJournal open() throws IOException {
+        DrawJournal opened = new DrawJournal();
+        ReflectionTestUtils.setField(opened, "enabled", true);
+        ReflectionTestUtils.setField(opened, "path", dir.resolve("journal.bin"));
+        ReflectionTestUtils.setField(opened, "sizeMb", 1);
+        opened.open();
+        return opened;
+    }
+
+    private void register(String pool, long roundId, int count) {
+        for (int i = 0; i < count; i++) {
+            journal.recordRegistration(pool, roundId, roundId * 100 + i, 1);
+        }
+    }
+
+    private void draw(String pool, long roundId, Long resultId) {
+        LotteryResult result = new LotteryResult("winner", LocalDateTime.now(), pool, roundId);
+        result.setId(resultId);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            journal.recordDrawsAfterCommit(List.of(result));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private int records() {
+        return (Integer) ReflectionTestUtils.getField(journal, "position") / RECORD_SIZE;
+    }
+
+    // lastDrawnRound, lastResultId, openRound, registrations
+    private List<Long> state(String pool) {
+        Map<?, ?> pools = (Map<?, ?>) ReflectionTestUtils.getField(journal, "pools");
+        Object state = pools.get(pool);
+        return List.of("lastDrawnRound", "lastResultId", "openRound", "registrations").stream()
+                .map(field -> (Long) ReflectionTestUtils.getField(state, field))
+                .toList();
+    }
+}
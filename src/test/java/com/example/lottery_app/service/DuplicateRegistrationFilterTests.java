@@ -0,0 +1,110 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.dto.ImportResult;
+import com.example.lottery_app.entity.Participant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Iterator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class DuplicateRegistrationFilterTests {
+
+    @Autowired
+    private DuplicateRegistrationFilter filter;
+
+    @Autowired
+    private LotteryService lotteryService;
+
+    @Autowired
+    private LotteryRoundService lotteryRoundService;
+
+    @Autowired
+    private ParticipantImportService participantImportService;
+
+    @Test
+    void rejectsTheSameNameButNotAnotherSpelling() {
+        String pool = "dup-exact";
+        lotteryService.addParticipant(pool, new Participant("alice"));
+
+        assertConflict(pool, "alice");
+        assertThat(lotteryService.addParticipant(pool, new Participant("Alice")).getId()).isNotNull();
+        assertThat(lotteryService.addParticipant(pool, new Participant(null)).getId()).isNotNull();
+        assertThat(lotteryService.addParticipant(pool, new Participant(null)).getId()).isNotNull();
+    }
+
+    @Test
+    void ignoresCaseAndOuterSpacesWhenConfigured() {
+        String pool = "dup-case";
+        ReflectionTestUtils.setField(filter, "ignoreCase", true);
+        try {
+            lotteryService.addParticipant(pool, new Participant("Alice"));
+            filter.evict(pool);
+
+            assertConflict(pool, "  alice ");
+            assertThat(lotteryService.addParticipant(pool, new Participant("Alicia")).getId()).isNotNull();
+        } finally {
+            ReflectionTestUtils.setField(filter, "ignoreCase", false);
+            filter.evict(pool);
+        }
+    }
+
+    @Test
+    void reservationBlocksTheNameUntilReleased() {
+        assertThat(filter.tryRegister("dup-release", -1L, "bob")).isTrue();
+        assertThat(filter.tryRegister("dup-release", -1L, "bob")).isFalse();
+        filter.release("dup-release", -1L, "bob");
+
+        // The Bloom bits stay set; the database confirms bob was never stored
+        assertThat(filter.tryRegister("dup-release", -1L, "bob")).isTrue();
+    }
+
+    @Test
+    void releaseOfAnEarlierRoundLeavesTheCurrentOneAlone() {
+        assertThat(filter.tryRegister("dup-rounds", -1L, "carol")).isTrue();
+        assertThat(filter.tryRegister("dup-rounds", -2L, "carol")).isTrue();
+        filter.release("dup-rounds", -1L, "carol");
+
+        assertThat(filter.tryRegister("dup-rounds", -2L, "carol")).isFalse();
+    }
+
+    @Test
+    void loadsTheNamesAlreadyStoredForTheRound() {
+        String pool = "dup-stored";
+        lotteryService.addParticipant(pool, new Participant("dave"));
+        Long roundId = lotteryRoundService.findCurrentRoundId(pool).orElseThrow();
+        filter.evict(pool);
+
+        assertThat(filter.tryRegister(pool, roundId, "dave")).isFalse();
+        assertConflict(pool, "dave");
+    }
+
+    @Test
+    void keepsRejectingOnceTheRoundOutgrowsItsFirstLayer() {
+        String pool = "dup-growth";
+        ImportResult first = participantImportService.importParticipants(pool, names(5000));
+        ImportResult again = participantImportService.importParticipants(pool, names(5000));
+
+        assertThat(first.rows()).isEqualTo(5000);
+        assertThat(again.rows()).isZero();
+        assertThat(again.duplicates()).isEqualTo(5000);
+    }
+
+    private void assertConflict(String pool, String name) {
+        assertThatThrownBy(() -> lotteryService.addParticipant(pool, new Participant(name)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    private static Iterator<Participant> names(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new Participant("grower-" + i)).iterator();
+    }
+}
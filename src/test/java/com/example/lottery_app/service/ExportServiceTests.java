@@ -0,0 +1,51 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.Participant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ExportServiceTests {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private LotteryService lotteryService;
+
+    @Test
+    void csvNeutralizesNamesThatLookLikeFormulas() throws Exception {
+        String pool = "export-formulas";
+        for (String name : new String[] {"=SUM(A1:A9)", "+1,2", "-x", "@cmd", "plain"}) {
+            lotteryService.addParticipant(pool, new Participant(name));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportParticipants(pool, ExportService.Format.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).lines().skip(1).map(line -> line.substring(line.indexOf(',') + 1)))
+                .containsExactly("'=SUM(A1:A9),1", "\"'+1,2\",1", "'-x,1", "'@cmd,1", "plain,1");
+    }
+
+    @Test
+    void csvExportsNamelessParticipantsAndTheirWins() throws Exception {
+        String pool = "export-nameless";
+        lotteryService.addParticipant(pool, new Participant());
+
+        ByteArrayOutputStream participants = new ByteArrayOutputStream();
+        exportService.exportParticipants(pool, ExportService.Format.CSV, participants);
+        lotteryService.drawWinner(pool);
+        ByteArrayOutputStream results = new ByteArrayOutputStream();
+        exportService.exportResults(pool, ExportService.Format.CSV, results);
+
+        assertThat(participants.toString(StandardCharsets.UTF_8).lines().skip(1)).singleElement().asString().matches("\\d+,,1");
+        assertThat(results.toString(StandardCharsets.UTF_8).lines().skip(1)).singleElement().asString()
+                .matches("\\d+,,[^,]+," + pool + ",\\d+");
+    }
+}
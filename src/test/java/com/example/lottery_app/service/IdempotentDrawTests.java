@@ -0,0 +1,85 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.DrawRequest;
+import com.example.lottery_app.entity.LotteryResult;
+import com.example.lottery_app.entity.Participant;
+import com.example.lottery_app.repository.DrawRequestRepository;
+import com.example.lottery_app.service.LotteryService.DrawMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+@SpringBootTest
+class IdempotentDrawTests {
+
+    @Autowired
+    private LotteryService lotteryService;
+
+    @MockitoSpyBean
+    private DrawRequestRepository drawRequestRepository;
+
+    @Test
+    void repeatedKeyReturnsTheFirstResultWithoutDrawingAgain() {
+        String pool = "idempotent-repeat";
+        lotteryService.addParticipant(pool, new Participant("alice"));
+        lotteryService.addParticipant(pool, new Participant("bob"));
+
+        LotteryResult first = lotteryService.drawWinner(pool, "key-1", DrawMode.UNIFORM);
+        lotteryService.addParticipant(pool, new Participant("carol"));
+        LotteryResult retry = lotteryService.drawWinner(pool, "key-1", DrawMode.UNIFORM);
+
+        assertThat(retry.getId()).isEqualTo(first.getId());
+        assertThat(lotteryService.getLotteryResults(pool)).hasSize(1);
+        assertThat(lotteryService.getParticipants(pool)).extracting(Participant::getName).containsExactly("carol");
+        assertThat(drawRequestRepository.findById(pool + ":key-1")).map(DrawRequest::getResultId).contains(first.getId());
+    }
+
+    @Test
+    void differentKeysDrawSeparately() {
+        String pool = "idempotent-keys";
+        lotteryService.addParticipant(pool, new Participant("alice"));
+        LotteryResult first = lotteryService.drawWinner(pool, "key-1", DrawMode.UNIFORM);
+        lotteryService.addParticipant(pool, new Participant("bob"));
+        LotteryResult second = lotteryService.drawWinner(pool, "key-2", DrawMode.WEIGHTED);
+
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+        assertThat(second.getWinnerName()).isEqualTo("bob");
+    }
+
+    @Test
+    void failedDrawDoesNotRecordTheKey() {
+        String pool = "idempotent-empty";
+        assertThatThrownBy(() -> lotteryService.drawWinner(pool, "key-1", DrawMode.UNIFORM));
+        assertThat(drawRequestRepository.existsById(pool + ":key-1")).isFalse();
+
+        lotteryService.addParticipant(pool, new Participant("alice"));
+        assertThat(lotteryService.drawWinner(pool, "key-1", DrawMode.UNIFORM).getWinnerName()).isEqualTo("alice");
+    }
+
+    @Test
+    void drawRollsBackWhenItsKeyCannotBeStored() {
+        String pool = "idempotent-atomic";
+        lotteryService.addParticipant(pool, new Participant("alice"));
+
+        doThrow(new IllegalStateException("database unavailable")).when(drawRequestRepository).save(any(DrawRequest.class));
+        try {
+            assertThatThrownBy(() -> lotteryService.drawWinner(pool, "key-1", DrawMode.UNIFORM))
+                    .hasMessageContaining("database unavailable");
+        } finally {
+            reset(drawRequestRepository);
+        }
+
+        // No result was committed and the round is still open, so the retry draws from it
+        assertThat(lotteryService.getLotteryResults(pool)).isEmpty();
+        assertThat(lotteryService.getParticipants(pool)).extracting(Participant::getName).containsExactly("alice");
+        LotteryResult retry = lotteryService.drawWinner(pool, "key-1", DrawMode.UNIFORM);
+        assertThat(lotteryService.getLotteryResults(pool)).extracting(LotteryResult::getId).containsExactly(retry.getId());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.lottery_app.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTests {
+
+    @Test
+    void decodesWhatItEncodes() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 10, 17, 9, 30, 5, 123_456_789), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void keepsWholeMinutesAndLargeIds() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 1, 1, 0, 0), Long.MAX_VALUE);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedCursorsAsBadRequest() {
+        assertBadRequest("not base64!");
+        assertBadRequest(encode("2026-10-17T09:30"));
+        assertBadRequest(encode("2026-10-17T09:30|abc"));
+        assertBadRequest(encode("yesterday|1"));
+        assertBadRequest(encode("2026-10-17T09:30|1|2"));
+        assertBadRequest("");
+    }
+
+    private static void assertBadRequest(String cursor) {
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private static String encode(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+}
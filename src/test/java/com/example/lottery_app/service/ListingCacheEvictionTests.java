@@ -0,0 +1,105 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.App;
+import com.example.lottery_app.entity.BlogPost;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Updates are saved inside one persistence context, as under open-session-in-view, where the
+ * lookup of the previous state returns the same managed instance the update is merged into.
+ */
+@SpringBootTest
+class ListingCacheEvictionTests {
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private AppService appService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void recategorizedPostLeavesOldCategoryListing() {
+        BlogPost post = blogService.createPost("Cache test", "summary", "content", "cache-old", "author");
+        assertThat(blogService.getPostsByCategory("cache-old")).extracting(BlogPost::getId).contains(post.getId());
+
+        BlogPost update = copyOf(post);
+        update.setCategory("cache-new");
+        transactionTemplate.executeWithoutResult(status -> blogService.savePost(update));
+
+        assertThat(blogService.getPostsByCategory("cache-old")).extracting(BlogPost::getId).doesNotContain(post.getId());
+        assertThat(blogService.getPostsByCategory("cache-new")).extracting(BlogPost::getId).contains(post.getId());
+    }
+
+    @Test
+    void unpublishedPostLeavesPublishedListing() {
+        BlogPost post = blogService.createPost("Unpublish test", "summary", "content", "cache-unpublish", "author");
+        assertThat(blogService.getAllPublishedPosts()).extracting(BlogPost::getId).contains(post.getId());
+
+        BlogPost update = copyOf(post);
+        update.setPublished(false);
+        transactionTemplate.executeWithoutResult(status -> blogService.savePost(update));
+
+        assertThat(blogService.getAllPublishedPosts()).extracting(BlogPost::getId).doesNotContain(post.getId());
+        assertThat(blogService.getPostsByCategory("cache-unpublish")).isEmpty();
+    }
+
+    @Test
+    void deletedPostLeavesListings() {
+        BlogPost post = blogService.createPost("Delete test", "summary", "content", "cache-delete", "author");
+        assertThat(blogService.getPostsByCategory("cache-delete")).hasSize(1);
+
+        blogService.deletePost(post.getId());
+
+        assertThat(blogService.getPostsByCategory("cache-delete")).isEmpty();
+        assertThat(blogService.getAllPublishedPosts()).extracting(BlogPost::getId).doesNotContain(post.getId());
+    }
+
+    @Test
+    void deactivatedAppLeavesActiveAndFeaturedListings() {
+        App app = new App("Cache app", "description", "#", "cache-apps");
+        app.setFeatured(true);
+        app = appService.saveApp(app);
+        Long id = app.getId();
+        assertThat(appService.getAllActiveApps()).extracting(App::getId).contains(id);
+        assertThat(appService.getFeaturedApps()).extracting(App::getId).contains(id);
+        assertThat(appService.getAppsByCategory("cache-apps")).extracting(App::getId).contains(id);
+
+        App update = copyOf(app);
+        update.setStatus("deprecated");
+        update.setCategory("cache-apps-moved");
+        transactionTemplate.executeWithoutResult(status -> appService.saveApp(update));
+
+        assertThat(appService.getAllActiveApps()).extracting(App::getId).doesNotContain(id);
+        assertThat(appService.getFeaturedApps()).extracting(App::getId).doesNotContain(id);
+        assertThat(appService.getAppsByCategory("cache-apps")).extracting(App::getId).doesNotContain(id);
+        assertThat(appService.getAppsByCategory("cache-apps-moved")).extracting(App::getId).contains(id);
+    }
+
+    // Detached copy, as bound from a request body
+    private static BlogPost copyOf(BlogPost post) {
+        BlogPost copy = new BlogPost(post.getTitle(), post.getSummary(), post.getContent(), post.getCategory(), post.getAuthor());
+        copy.setId(post.getId());
+        copy.setPublished(post.isPublished());
+        copy.setTags(post.getTags());
+        copy.setCreatedAt(post.getCreatedAt());
+        return copy;
+    }
+
+    private static App copyOf(App app) {
+        App copy = new App(app.getName(), app.getDescription(), app.getAppUrl(), app.getCategory());
+        copy.setId(app.getId());
+        copy.setFeatured(app.isFeatured());
+        copy.setStatus(app.getStatus());
+        copy.setTechnology(app.getTechnology());
+        copy.setCreatedAt(app.getCreatedAt());
+        return copy;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.LotteryRound;
+import com.example.lottery_app.entity.Participant;
+import com.example.lottery_app.repository.LotteryRoundRepository;
+import com.example.lottery_app.service.LotteryService.DrawMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class LotteryRoundServiceTests {
+
+    @Autowired
+    private LotteryService lotteryService;
+
+    @Autowired
+    private LotteryRoundService lotteryRoundService;
+
+    @Autowired
+    private LotteryRoundRepository lotteryRoundRepository;
+
+    @Test
+    void readsAndDrawsOfAnUnknownPoolCreateNoRound() {
+        String pool = "rounds-unknown";
+        assertThat(lotteryService.getParticipants(pool)).isEmpty();
+        assertThatThrownBy(() -> lotteryService.drawWinner(pool, null, DrawMode.UNIFORM))
+                .hasMessageContaining("No participants");
+
+        assertThat(lotteryRoundService.findCurrentRoundId(pool)).isEmpty();
+        assertThat(lotteryRoundRepository.findFirstByPoolAndStatusOrderByIdDesc(pool, LotteryRound.OPEN)).isEmpty();
+    }
+
+    @Test
+    void firstRegistrationOpensTheRoundAndDrawRollsItOver() {
+        String pool = "rounds-rollover";
+        lotteryService.addParticipant(pool, new Participant("alice"));
+        Long first = lotteryRoundService.findCurrentRoundId(pool).orElseThrow();
+        assertThat(lotteryRoundService.getOrOpenCurrentRoundId(pool)).isEqualTo(first);
+
+        lotteryService.drawWinner(pool, null, DrawMode.UNIFORM);
+
+        Long next = lotteryRoundService.findCurrentRoundId(pool).orElseThrow();
+        assertThat(next).isNotEqualTo(first);
+        assertThat(lotteryRoundRepository.findFirstByPoolAndStatusOrderByIdDesc(pool, LotteryRound.OPEN))
+                .map(LotteryRound::getId).contains(next);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.Participant;
+import com.example.lottery_app.service.ParticipantImportService.Format;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class ParticipantImportServiceTests {
+
+    @Autowired
+    private ParticipantImportService participantImportService;
+
+    @Autowired
+    private LotteryService lotteryService;
+
+    @Test
+    void readsCsvHeaderRegardlessOfCase() throws Exception {
+        String pool = "import-header";
+        participantImportService.importParticipants(pool, body("Weight, NAME\n3,alice\n,bob\n"), Format.CSV);
+
+        assertThat(lotteryService.getParticipants(pool)).extracting(Participant::getName, Participant::getWeight)
+                .containsExactlyInAnyOrder(tuple("alice", 3), tuple("bob", 1));
+    }
+
+    @Test
+    void rejectsBadInputAsBadRequest() {
+        assertBadRequest("{\"name\":\"alice\"}", Format.JSON);
+        assertBadRequest("[{\"name\":", Format.JSON);
+        assertBadRequest("name,weight\nalice,heavy\n", Format.CSV);
+    }
+
+    private void assertBadRequest(String content, Format format) {
+        assertThatThrownBy(() -> participantImportService.importParticipants("import-bad", body(content), format))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.controller.LotteryController;
+import com.example.lottery_app.dto.ResultStats;
+import com.example.lottery_app.entity.Participant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ResultStatisticsTests {
+
+    @Autowired
+    private ResultStatistics resultStatistics;
+
+    @Autowired
+    private LotteryService lotteryService;
+
+    @Autowired
+    private LotteryController lotteryController;
+
+    @Test
+    void ranksWinnersAndCountsNamelessDraws() {
+        String pool = "stats-ranking";
+        ResultStats before = resultStatistics.getStats(LocalDate.MIN, LocalDate.MAX, 1000);
+        for (String name : new String[] {"stats-zoe", "stats-zoe", "stats-amy", null}) {
+            lotteryService.addParticipant(pool, new Participant(name));
+            lotteryService.drawWinner(pool);
+        }
+
+        ResultStats after = resultStatistics.getStats(LocalDate.MIN, LocalDate.MAX, 1000);
+
+        assertThat(after.totalDraws()).isEqualTo(before.totalDraws() + 4);
+        assertThat(after.topWinners()).contains(new ResultStats.WinnerCount("stats-zoe", 2),
+                new ResultStats.WinnerCount("stats-amy", 1));
+        assertThat(after.topWinners()).isSortedAccordingTo((a, b) -> Long.compare(b.wins(), a.wins()));
+        assertThat(after.topWinners()).noneMatch(winner -> winner.winnerName() == null);
+    }
+
+    @Test
+    void rescanningTheHistoryCountsNothingTwice() {
+        lotteryService.addParticipant("stats-rescan", new Participant("stats-once"));
+        lotteryService.drawWinner("stats-rescan");
+        ResultStats before = resultStatistics.getStats(LocalDate.MIN, LocalDate.MAX, 1000);
+
+        resultStatistics.rebuild();
+
+        assertThat(resultStatistics.getStats(LocalDate.MIN, LocalDate.MAX, 1000)).isEqualTo(before);
+    }
+
+    @Test
+    void totalCoversOnlyTheRequestedDays() {
+        lotteryService.addParticipant("stats-range", new Participant("stats-today"));
+        lotteryService.drawWinner("stats-range");
+        LocalDate today = LocalDate.now();
+
+        ResultStats past = resultStatistics.getStats(LocalDate.MIN, today.minusDays(1), 10);
+        ResultStats current = resultStatistics.getStats(today, today, 10);
+
+        assertThat(past.drawsPerDay()).doesNotContainKey(today);
+        assertThat(past.totalDraws()).isEqualTo(past.drawsPerDay().values().stream().mapToLong(Long::longValue).sum());
+        assertThat(current.totalDraws()).isEqualTo(current.drawsPerDay().get(today)).isPositive();
+    }
+
+    @Test
+    void reversedRangeIsABadRequest() {
+        LocalDate today = LocalDate.now();
+
+        assertThatThrownBy(() -> lotteryController.getResultStats(today, today.minusDays(1), 10))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.lottery_app.service;
+
+import com.example.lottery_app.entity.Participant;
+import com.example.lottery_app.service.LotteryService.DrawMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UniformDrawTests {
+
+    @Autowired
+    private LotteryService lotteryService;
+
+    @Test
+    void drawsEveryEntrantOfASparseRoundAboutEquallyOften() {
+        List<String> names = List.of("uniform-a", "uniform-b", "uniform-c");
+        Map<String, Integer> wins = new HashMap<>();
+        for (int draw = 0; draw < 300; draw++) {
+            // Registrations in other pools interleave with this round's ids and leave gaps
+            for (String name : names) {
+                lotteryService.addParticipant("uniform-main", new Participant(name));
+                lotteryService.addParticipant("uniform-other", new Participant(name + "-" + draw));
+            }
+            String winner = lotteryService.drawWinner("uniform-main", null, DrawMode.UNIFORM).getWinnerName();
+            wins.merge(winner, 1, Integer::sum);
+        }
+
+        assertThat(wins.keySet()).containsExactlyInAnyOrderElementsOf(names);
+        assertThat(wins.values()).allSatisfy(count -> assertThat(count).isBetween(60, 140));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.lottery_app.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WinnerSamplerTests {
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Test
+    void uniformReturnsDistinctIdsAndLeavesTheInputUntouched() {
+        long[] ids = {10, 11, 12, 13, 14, 15, 16, 17, 18, 19, -1, -1};
+        long[] before = ids.clone();
+
+        for (int round = 0; round < 1_000; round++) {
+            long[] winners = WinnerSampler.uniform(ids, 10, 4, random);
+            assertThat(winners).hasSize(4).doesNotHaveDuplicates();
+            assertThat(Arrays.copyOf(before, 10)).contains(winners);
+        }
+        assertThat(ids).containsExactly(before);
+    }
+
+    @Test
+    void uniformReturnsEveryoneWhenAskedForMoreThanThereAre() {
+        long[] winners = WinnerSampler.uniform(new long[] {1, 2, 3}, 3, 5, random);
+
+        assertThat(winners).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    void uniformPicksEveryIdEquallyOften() {
+        long[] ids = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        int[] hits = new int[ids.length];
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            for (long id : WinnerSampler.uniform(ids, ids.length, 3, random)) {
+                hits[(int) id]++;
+            }
+        }
+
+        for (int count : hits) {
+            assertThat(count / (double) trials).isCloseTo(0.3, within(0.01));
+        }
+    }
+
+    @Test
+    void reservoirReturnsDistinctIdsHighestKeyFirst() {
+        WinnerSampler.WeightedReservoir reservoir = new WinnerSampler.WeightedReservoir(5, random);
+        for (long id = 0; id < 100; id++) {
+            reservoir.offer(id, 1 + (int) (id % 7));
+        }
+
+        long[] winners = reservoir.winners();
+        assertThat(winners).hasSize(5).doesNotHaveDuplicates();
+        assertThat(Arrays.stream(winners).allMatch(id -> id >= 0 && id < 100)).isTrue();
+    }
+
+    @Test
+    void reservoirFirstWinnerIsProportionalToWeight() {
+        int[] weights = {1, 2, 3, 4};
+        int[] hits = new int[weights.length];
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            WinnerSampler.WeightedReservoir reservoir = new WinnerSampler.WeightedReservoir(1, random);
+            for (int id = 0; id < weights.length; id++) {
+                reservoir.offer(id, weights[id]);
+            }
+            hits[(int) reservoir.winners()[0]]++;
+        }
+
+        int total = Arrays.stream(weights).sum();
+        for (int id = 0; id < weights.length; id++) {
+            assertThat(hits[id] / (double) trials).isCloseTo(weights[id] / (double) total, within(0.01));
+        }
+    }
+}